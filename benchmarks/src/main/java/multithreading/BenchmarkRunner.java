@@ -0,0 +1,83 @@
+package multithreading;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.NoBenchmarksException;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks matching a regular expression (all of them by default) once per thread count,
+ * so the numbers show how each primitive scales, and writes the results of every thread count to a
+ * JSON file (e.g. for jmh.morethan.io).
+ *
+ * <p>Usage :- java -cp benchmarks/target/benchmarks.jar multithreading.BenchmarkRunner [regex]
+ * [thread counts, e.g. 1,2,4,8]
+ *
+ * <p>The producer/consumer group of QueueThroughputBenchmark and the single round trip thread of
+ * QueueLatencyBenchmark set their own threads, so they are only run once.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 18 : 42 : 26)
+ */
+public class BenchmarkRunner {
+  private static final String QUEUE_BENCHMARKS = "\\.Queue";
+
+  public static void main(String[] args) throws RunnerException {
+    String include = args.length > 0 ? args[0] : "multithreading\\..*";
+    String[] threadCounts = (args.length > 1 ? args[1] : "1,2,4,8").split(",");
+
+    List<RunResult> results = new ArrayList<>();
+    for (String threadCount : threadCounts) {
+      int threads = Integer.parseInt(threadCount.trim());
+      run(
+          new OptionsBuilder()
+              .include(include)
+              .exclude(QUEUE_BENCHMARKS)
+              .threads(threads)
+              .resultFormat(ResultFormatType.JSON)
+              .result("jmh-threads-" + threads + ".json")
+              .build(),
+          results);
+    }
+    // the includes of JMH are OR-ed, so "not a queue benchmark" is excluded instead
+    run(
+        new OptionsBuilder()
+            .include(include)
+            .exclude("^(?!.*" + QUEUE_BENCHMARKS + ")")
+            .resultFormat(ResultFormatType.JSON)
+            .result("jmh-queues.json")
+            .build(),
+        results);
+
+    System.out.println("\n****" + results.size() + " results****\n");
+    for (RunResult result : results) {
+      System.out.printf(
+          "%-70s %2d threads %12.3f %s%n",
+          result.getParams().getBenchmark() + paramsOf(result),
+          result.getParams().getThreads(),
+          result.getPrimaryResult().getScore(),
+          result.getPrimaryResult().getScoreUnit());
+    }
+  }
+
+  private static void run(Options options, List<RunResult> results) throws RunnerException {
+    try {
+      results.addAll(new Runner(options).run());
+    } catch (NoBenchmarksException e) {
+      // the regex only matches benchmarks of the other run
+    }
+  }
+
+  private static String paramsOf(RunResult result) {
+    StringBuilder params = new StringBuilder();
+    for (String key : result.getParams().getParamsKeys()) {
+      params.append(' ').append(key).append('=').append(result.getParams().getParam(key));
+    }
+    return params.toString();
+  }
+}
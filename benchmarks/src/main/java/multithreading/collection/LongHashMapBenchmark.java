@@ -0,0 +1,83 @@
+package multithreading.collection;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ConcurrentLongHashMap} compared with ConcurrentHashMap&lt;Long, Long&gt; for a mix of
+ * get() and put() on random keys, half of the gets miss.
+ *
+ * <p>With a million entries the tables don't fit in the caches, then the cache misses on the nodes
+ * and the boxed keys of ConcurrentHashMap add up. The number of threads is given with -t.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 19 : 27 : 44)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LongHashMapBenchmark {
+  private static final Long VALUE = 42L;
+
+  @Param({"1000", "1000000"})
+  int size;
+
+  @Param({"90", "100"})
+  int readPercent;
+
+  private ConcurrentLongHashMap<Long> longMap;
+  private ConcurrentHashMap<Long, Long> boxedMap;
+
+  @Setup
+  public void setUp() {
+    longMap = new ConcurrentLongHashMap<>();
+    boxedMap = new ConcurrentHashMap<>();
+    for (long key = 0; key < size; key++) {
+      longMap.put(key, VALUE);
+      boxedMap.put(key, VALUE);
+    }
+  }
+
+  @Benchmark
+  public Long concurrentLongHashMap(ThreadRandom random) {
+    long key = random.nextKey(2 * size);
+    return random.nextPercent() < readPercent ? longMap.get(key) : longMap.put(key, VALUE);
+  }
+
+  @Benchmark
+  public Long concurrentHashMap(ThreadRandom random) {
+    long key = random.nextKey(2 * size);
+    return random.nextPercent() < readPercent ? boxedMap.get(key) : boxedMap.put(key, VALUE);
+  }
+
+  /** Per thread xorshift generator, ThreadLocalRandom would add a lookup to every operation. */
+  @State(Scope.Thread)
+  public static class ThreadRandom {
+    private long seed = System.nanoTime() | 1;
+
+    long nextKey(int bound) {
+      seed ^= seed << 13;
+      seed ^= seed >>> 7;
+      seed ^= seed << 17;
+      return (seed >>> 1) % bound;
+    }
+
+    int nextPercent() {
+      return (int) nextKey(100);
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package multithreading.executor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Overhead of handing a task to each kind of executor of {@link ExecutorFramework}, with an empty
+ * task so only the executor is measured.
+ *
+ * <p>submitBatch :- the cost per task when many are submitted at once (queueing, waking up
+ * workers), like a fan out. submitAndWait :- the round trip of a single task, from submit() until
+ * get() returns in the caller, i.e. what a request pays when it hands its work to a pool.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 18 : 42 : 26)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ExecutorBenchmark {
+  private static final int BATCH = 1000;
+  private static final int POOL_SIZE = 4;
+
+  @Param({"fixed", "cached", "single", "workStealing", "forkJoinCommon", "scheduled"})
+  String poolType;
+
+  private ExecutorService executor;
+
+  @Setup
+  public void setUp() {
+    switch (poolType) {
+      case "fixed":
+        executor = Executors.newFixedThreadPool(POOL_SIZE);
+        break;
+      case "cached":
+        executor = Executors.newCachedThreadPool();
+        break;
+      case "single":
+        executor = Executors.newSingleThreadExecutor();
+        break;
+      case "workStealing":
+        executor = Executors.newWorkStealingPool(POOL_SIZE);
+        break;
+      case "forkJoinCommon":
+        executor = ForkJoinPool.commonPool();
+        break;
+      case "scheduled":
+        executor = Executors.newScheduledThreadPool(POOL_SIZE);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown pool : " + poolType);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    // shutdown() of the common pool has no effect
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void submitBatch() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(BATCH);
+    for (int i = 0; i < BATCH; i++) {
+      executor.execute(done::countDown);
+    }
+    done.await();
+  }
+
+  @Benchmark
+  public Object submitAndWait() throws InterruptedException, ExecutionException {
+    return executor.submit(ExecutorBenchmark::noOp).get();
+  }
+
+  private static Object noOp() {
+    return Boolean.TRUE;
+  }
+}
@@ -0,0 +1,85 @@
+package multithreading.executor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A batch of tiny tasks handed to a fixed thread pool (with submit() and execute()) and to a {@link
+ * RecyclingExecutor}. Run it with -prof gc to see the bytes allocated per task (gc.alloc.rate.norm)
+ * and the collections, which is where the RecyclingExecutor differs.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 21 : 12 : 40)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RecyclingExecutorBenchmark {
+  private static final int BATCH = 1000;
+  private static final int POOL_SIZE = 4;
+
+  @Param({"fixedSubmit", "fixedExecute", "recycling"})
+  String executorType;
+
+  private ExecutorService fixed;
+  private RecyclingExecutor recycling;
+
+  @Setup
+  public void setUp() {
+    if (executorType.equals("recycling")) {
+      recycling = new RecyclingExecutor(POOL_SIZE, BATCH);
+    } else {
+      fixed = Executors.newFixedThreadPool(POOL_SIZE);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    if (recycling != null) {
+      recycling.shutdown();
+      recycling.awaitTermination(10, TimeUnit.SECONDS);
+    } else {
+      fixed.shutdown();
+      fixed.awaitTermination(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void submitBatch() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(BATCH);
+    // one task object for the whole batch, so only what the executor allocates is left
+    Runnable task = done::countDown;
+    for (int i = 0; i < BATCH; i++) {
+      switch (executorType) {
+        case "fixedSubmit":
+          fixed.submit(task);
+          break;
+        case "fixedExecute":
+          fixed.execute(task);
+          break;
+        default:
+          recycling.execute(task);
+      }
+    }
+    done.await();
+  }
+}
@@ -0,0 +1,54 @@
+package multithreading.interthreadcommunication;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The operations the queue benchmarks need, over the {@link Channel} of each queue.
+ *
+ * <p>Only timed offer() and poll() are used :- at the end of an iteration JMH stops calling the
+ * producers and the consumers one by one, with put() and take() the last ones would wait forever
+ * for a counterpart which has already stopped.
+ *
+ * <p>The benchmarks retry a call which timed out until JMH stops the measurement, so a timed out
+ * offer() or poll() is never counted as an operation or a sample.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 18 : 42 : 26)
+ */
+interface BenchmarkQueue {
+  long TIMEOUT_MILLIS = 100;
+
+  boolean offer(Integer element) throws InterruptedException;
+
+  Integer poll() throws InterruptedException;
+
+  static BenchmarkQueue of(String type, int capacity) {
+    Channel<Integer> channel;
+    switch (type) {
+      case "MonitorQueue":
+        channel = new MonitorQueue<>(capacity);
+        break;
+      case "LinkedBlockingQueue":
+        channel = Channel.of(new LinkedBlockingQueue<>(capacity));
+        break;
+      case "ArrayBlockingQueue":
+        channel = Channel.of(new ArrayBlockingQueue<>(capacity));
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown queue : " + type);
+    }
+    return new BenchmarkQueue() {
+      @Override
+      public boolean offer(Integer element) throws InterruptedException {
+        return channel.offer(element, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+      }
+
+      @Override
+      public Integer poll() throws InterruptedException {
+        return channel.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+      }
+    };
+  }
+}
@@ -0,0 +1,90 @@
+package multithreading.interthreadcommunication;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Control;
+
+/**
+ * Latency of a handoff through each queue :- the benchmark thread puts an element into one queue,
+ * an echo thread moves it to a second queue and the benchmark thread takes it back. SampleTime mode
+ * reports the distribution (p50, p99, p99.9 ...) of the round trip, i.e. of two handoffs including
+ * the wake up of a waiting thread.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 18 : 42 : 26)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(1)
+public class QueueLatencyBenchmark {
+  private static final Integer ELEMENT = 42;
+
+  @Param({"MonitorQueue", "LinkedBlockingQueue", "ArrayBlockingQueue"})
+  String queueType;
+
+  private BenchmarkQueue requests;
+  private BenchmarkQueue responses;
+  private Thread echo;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    requests = BenchmarkQueue.of(queueType, 1);
+    responses = BenchmarkQueue.of(queueType, 1);
+    echo =
+        new Thread(
+            () -> {
+              try {
+                while (!Thread.currentThread().isInterrupted()) {
+                  Integer element = requests.poll();
+                  if (element != null) {
+                    responses.offer(element);
+                  }
+                }
+              } catch (InterruptedException e) {
+                // stopped by tearDown()
+              }
+            },
+            "echo");
+    echo.setDaemon(true);
+    echo.start();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws InterruptedException {
+    echo.interrupt();
+    echo.join();
+  }
+
+  @Benchmark
+  public Integer roundTrip(Control control) throws InterruptedException {
+    while (!requests.offer(ELEMENT)) {
+      if (control.stopMeasurement) {
+        return null;
+      }
+    }
+    Integer element;
+    while ((element = responses.poll()) == null) {
+      if (control.stopMeasurement) {
+        return null;
+      }
+    }
+    return element;
+  }
+}
@@ -0,0 +1,77 @@
+package multithreading.interthreadcommunication;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Control;
+
+/**
+ * Elements per second through the wait/notify {@link MonitorQueue} of {@link ProducerConsumer}
+ * compared with LinkedBlockingQueue (and ArrayBlockingQueue, the same bounded array with a lock and
+ * two Conditions).
+ *
+ * <p>One producer and one consumer by default, change the split with -tg, e.g. -tg 4,4. With
+ * capacity 1 every element is a handoff which wakes up the other side, with 1024 the threads mostly
+ * run without waiting.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 18 : 42 : 26)
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class QueueThroughputBenchmark {
+  private static final Integer ELEMENT = 42;
+
+  @Param({"MonitorQueue", "LinkedBlockingQueue", "ArrayBlockingQueue"})
+  String queueType;
+
+  @Param({"1", "1024"})
+  int capacity;
+
+  private BenchmarkQueue queue;
+
+  @Setup
+  public void setUp() {
+    queue = BenchmarkQueue.of(queueType, capacity);
+  }
+
+  @Benchmark
+  @Group("producerConsumer")
+  @GroupThreads(1)
+  public boolean produce(Control control) throws InterruptedException {
+    while (!control.stopMeasurement) {
+      if (queue.offer(ELEMENT)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Benchmark
+  @Group("producerConsumer")
+  @GroupThreads(1)
+  public Integer consume(Control control) throws InterruptedException {
+    while (!control.stopMeasurement) {
+      Integer element = queue.poll();
+      if (element != null) {
+        return element;
+      }
+    }
+    return null;
+  }
+}
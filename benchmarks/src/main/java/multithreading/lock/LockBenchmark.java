@@ -0,0 +1,93 @@
+package multithreading.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A shared counter read or incremented under each synchronization primitive of {@link
+ * LockAndAtomicVariable} :- synchronized, ReentrantLock, {@link MyReadWriteLock} and {@link
+ * MyAtomicVariable}.
+ *
+ * <p>Every operation is a read with probability readPercent, otherwise a write. The number of
+ * threads is given on the command line (-t) or swept by BenchmarkRunner, e.g. a ReadWriteLock only
+ * pays off with several readers and few writes, and any lock collapses once many threads write.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 18 : 42 : 26)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LockBenchmark {
+  @Param({"50", "90", "99"})
+  int readPercent;
+
+  private final Object monitor = new Object();
+  private int synchronizedCount;
+
+  private final ReentrantLock reentrantLock = new ReentrantLock();
+  private int reentrantLockCount;
+
+  private final MyReadWriteLock myReadWriteLock = new MyReadWriteLock();
+  private final MyAtomicVariable myAtomicVariable = new MyAtomicVariable();
+
+  @Benchmark
+  public int synchronizedBlock(ThreadRandom random) {
+    // decided outside of the lock, like in the other benchmarks
+    boolean read = random.nextPercent() < readPercent;
+    synchronized (monitor) {
+      return read ? synchronizedCount : ++synchronizedCount;
+    }
+  }
+
+  @Benchmark
+  public int reentrantLock(ThreadRandom random) {
+    boolean read = random.nextPercent() < readPercent;
+    reentrantLock.lock();
+    try {
+      return read ? reentrantLockCount : ++reentrantLockCount;
+    } finally {
+      reentrantLock.unlock();
+    }
+  }
+
+  @Benchmark
+  public int myReadWriteLock(ThreadRandom random) {
+    return random.nextPercent() < readPercent
+        ? myReadWriteLock.getCount()
+        : myReadWriteLock.getIncrementAndCount();
+  }
+
+  @Benchmark
+  public int myAtomicVariable(ThreadRandom random) {
+    return random.nextPercent() < readPercent
+        ? myAtomicVariable.getAtomicCount()
+        : myAtomicVariable.incrementAndGetAtomicCount();
+  }
+
+  /** Per thread xorshift generator, ThreadLocalRandom would add a lookup to every operation. */
+  @State(Scope.Thread)
+  public static class ThreadRandom {
+    private int seed = (int) System.nanoTime() | 1;
+
+    int nextPercent() {
+      seed ^= seed << 13;
+      seed ^= seed >>> 17;
+      seed ^= seed << 5;
+      return (seed >>> 1) % 100;
+    }
+  }
+}
@@ -0,0 +1,381 @@
+package multithreading.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Size bounded cache of CompletableFutures, loaded asynchronously on a miss.
+ *
+ * <p><b>Request coalescing</b> :- the future of a load is put in the cache as soon as the load
+ * starts, not when the value arrives. So every get() of a key which is already being loaded gets
+ * the same future, i.e. 1000 concurrent misses of a hot key make 1 call to the backend, not 1000. A
+ * failed (or null) load is removed from the cache, the next get() starts a new one.
+ *
+ * <p><b>Eviction</b> :- a load in flight weighs nothing, it is neither counted against maximumSize
+ * nor ever evicted, so it keeps coalescing the misses of its key however full the cache is. Once it
+ * has completed with a value, and before it is counted, a CLOCK (second chance) queue picks a
+ * victim, an entry read since the last pass of the clock hand is skipped once. Then TinyLFU decides
+ * whether the new entry is worth keeping at all :- the approximate access frequencies of both keys
+ * are read from a {@link FrequencySketch} (which also counts the keys which are not in the cache)
+ * and the new entry is dropped instead of the victim unless it is more popular. The gets already
+ * waiting for a dropped entry still get its value. A scan over many one-off keys therefore can't
+ * flush the hot keys out of the cache, which plain LRU does.
+ *
+ * <p><b>Expire and refresh after write</b> :- an entry older than expireAfterWrite is loaded again
+ * by the next get(), which waits for it. An entry older than refreshAfterWrite (which should be
+ * shorter) is reloaded in the background by the first get() which sees it, while that get() and the
+ * following ones are still served the old value at once. The loader decides where loads run, e.g.
+ * {@code key -> CompletableFuture.supplyAsync(() -> fetch(key), executor)}.
+ *
+ * <p>The size bound is approximate :- an evicting thread never waits for another one, so the cache
+ * may briefly hold a few more loaded entries than maximumSize.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 15 : 48 : 36)
+ */
+public class AsyncLoadingCache<K, V> {
+  private final Function<? super K, ? extends CompletableFuture<V>> loader;
+  private final long maximumSize;
+  private final long expireAfterWriteNanos;
+  private final long refreshAfterWriteNanos;
+
+  private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+  private final ConcurrentLinkedQueue<Node<K, V>> clock = new ConcurrentLinkedQueue<>();
+  private final AtomicLong size = new AtomicLong();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final FrequencySketch sketch;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder loadSuccesses = new LongAdder();
+  private final LongAdder loadFailures = new LongAdder();
+  private final LongAdder refreshes = new LongAdder();
+  private final LongAdder totalLoadTime = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder rejections = new LongAdder();
+
+  /** A cache whose entries never expire, they are only evicted by size. */
+  public AsyncLoadingCache(
+      Function<? super K, ? extends CompletableFuture<V>> loader, long maximumSize) {
+    this(loader, maximumSize, 0, 0, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @param expireAfterWrite age after which an entry is loaded again, 0 to never expire
+   * @param refreshAfterWrite age after which an entry is reloaded in the background, 0 to never
+   *     refresh
+   */
+  public AsyncLoadingCache(
+      Function<? super K, ? extends CompletableFuture<V>> loader,
+      long maximumSize,
+      long expireAfterWrite,
+      long refreshAfterWrite,
+      TimeUnit unit) {
+    if (maximumSize <= 0 || expireAfterWrite < 0 || refreshAfterWrite < 0) {
+      throw new IllegalArgumentException(
+          "maximumSize must be positive and the durations must not be negative");
+    }
+    this.loader = loader;
+    this.maximumSize = maximumSize;
+    this.expireAfterWriteNanos = unit.toNanos(expireAfterWrite);
+    this.refreshAfterWriteNanos = unit.toNanos(refreshAfterWrite);
+    this.sketch = new FrequencySketch(maximumSize);
+  }
+
+  /**
+   * Returns the cached future of the key, or starts loading it. Concurrent calls for the same key
+   * share the same load.
+   */
+  public CompletableFuture<V> get(K key) {
+    long now = System.nanoTime();
+    sketch.increment(key);
+    while (true) {
+      Node<K, V> node = data.get(key);
+      if (node != null && !isExpired(node, now)) {
+        hits.increment();
+        node.referenced = true;
+        refreshIfNeeded(node, now);
+        return node.future;
+      }
+      Node<K, V> created = new Node<>(key, now);
+      boolean inserted =
+          node == null ? data.putIfAbsent(key, created) == null : data.replace(key, node, created);
+      if (inserted) {
+        misses.increment();
+        if (node != null) {
+          retire(node);
+        }
+        load(created, now);
+        return created.future;
+      }
+      // another thread inserted or replaced the entry meanwhile, use its future
+    }
+  }
+
+  /** Returns the cached future of the key without loading it, or null. */
+  public CompletableFuture<V> getIfPresent(K key) {
+    long now = System.nanoTime();
+    sketch.increment(key);
+    Node<K, V> node = data.get(key);
+    if (node == null || isExpired(node, now)) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    node.referenced = true;
+    refreshIfNeeded(node, now);
+    return node.future;
+  }
+
+  /** Removes the key, a load in flight still completes the futures already handed out. */
+  public void invalidate(K key) {
+    Node<K, V> node = data.get(key);
+    if (node != null) {
+      remove(node);
+    }
+  }
+
+  public void invalidateAll() {
+    for (Node<K, V> node : data.values()) {
+      remove(node);
+    }
+  }
+
+  /** Number of loaded entries, the loads in flight are not counted. */
+  public long estimatedSize() {
+    return size.get();
+  }
+
+  public CacheStats stats() {
+    return new CacheStats(
+        hits.sum(),
+        misses.sum(),
+        loadSuccesses.sum(),
+        loadFailures.sum(),
+        refreshes.sum(),
+        totalLoadTime.sum(),
+        evictions.sum(),
+        rejections.sum());
+  }
+
+  private void load(Node<K, V> node, long start) {
+    CompletableFuture<V> target = node.future;
+    startLoad(node.key)
+        .whenComplete(
+            (value, failure) -> {
+              long end = System.nanoTime();
+              totalLoadTime.add(end - start);
+              if (failure != null) {
+                loadFailures.increment();
+                // removed before completing, so a get() woken up by the failure can load again
+                remove(node);
+                target.completeExceptionally(failure);
+              } else {
+                loadSuccesses.increment();
+                node.writeTime = end;
+                if (value == null) {
+                  remove(node);
+                } else {
+                  admit(node);
+                }
+                target.complete(value);
+              }
+            });
+  }
+
+  /**
+   * Reloads a loaded entry older than refreshAfterWrite, at most one refresh per entry at a time.
+   * The entry keeps serving its old value until the new one arrives, and keeps it if the refresh
+   * fails.
+   */
+  private void refreshIfNeeded(Node<K, V> node, long now) {
+    if (refreshAfterWriteNanos == 0
+        || !isLoaded(node)
+        || now - node.writeTime < refreshAfterWriteNanos
+        || !Node.REFRESHING.compareAndSet(node, 0, 1)) {
+      return;
+    }
+    refreshes.increment();
+    startLoad(node.key)
+        .whenComplete(
+            (value, failure) -> {
+              long end = System.nanoTime();
+              totalLoadTime.add(end - now);
+              if (failure == null && value != null) {
+                loadSuccesses.increment();
+                node.future = CompletableFuture.completedFuture(value);
+                node.writeTime = end;
+              } else {
+                loadFailures.increment();
+              }
+              node.refreshing = 0;
+            });
+  }
+
+  /** Calls the loader, a loader which throws or returns null gives a failed future. */
+  private CompletableFuture<V> startLoad(K key) {
+    CompletableFuture<V> loading;
+    try {
+      loading = loader.apply(key);
+    } catch (Throwable throwable) {
+      loading = new CompletableFuture<>();
+      loading.completeExceptionally(throwable);
+      return loading;
+    }
+    if (loading == null) {
+      loading = new CompletableFuture<>();
+      loading.completeExceptionally(new NullPointerException("loader returned null for " + key));
+    }
+    return loading;
+  }
+
+  /**
+   * Decides whether a freshly loaded entry stays, and only then charges it to the size. If the
+   * cache is full the entry has to be more popular than the next victim, otherwise it is removed
+   * without ever having been counted. If another thread is evicting, the entry is charged right
+   * away and the excess is trimmed afterwards.
+   */
+  private void admit(Node<K, V> candidate) {
+    if (size.get() >= maximumSize && evictionLock.tryLock()) {
+      try {
+        long now = System.nanoTime();
+        Node<K, V> victim = size.get() >= maximumSize ? nextVictim(now) : null;
+        if (victim != null
+            && !isExpired(victim, now)
+            && sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+          // TinyLFU admission :- the new entry isn't more popular than the victim, drop it
+          clock.add(victim);
+          if (remove(candidate)) {
+            rejections.increment();
+          }
+          return;
+        }
+        if (victim != null && remove(victim)) {
+          evictions.increment();
+        }
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+    // fails if the entry was invalidated while loading
+    if (Node.STATE.compareAndSet(candidate, Node.LOADING, Node.CHARGED)) {
+      size.incrementAndGet();
+      clock.add(candidate);
+      evict();
+    }
+  }
+
+  /**
+   * Brings the size back to the maximum. Only one thread evicts at a time, the others carry on
+   * without waiting and the evicting thread picks up their excess entries too.
+   */
+  private void evict() {
+    while (size.get() > maximumSize && evictionLock.tryLock()) {
+      try {
+        while (size.get() > maximumSize) {
+          Node<K, V> victim = nextVictim(System.nanoTime());
+          if (victim == null) {
+            return;
+          }
+          if (remove(victim)) {
+            evictions.increment();
+          }
+        }
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Moves the clock hand to the next entry which wasn't read since the hand last passed it. Stale
+   * entries (removed or replaced) are dropped from the queue on the way. Only loaded entries are in
+   * the queue.
+   */
+  private Node<K, V> nextVictim(long now) {
+    // enough for a full turn in which every entry gets its second chance
+    long limit = 2 * size.get() + 1;
+    for (long scanned = 0; scanned < limit; scanned++) {
+      Node<K, V> node = clock.poll();
+      if (node == null) {
+        return null;
+      }
+      if (data.get(node.key) != node) {
+        continue;
+      }
+      if (node.referenced && !isExpired(node, now)) {
+        node.referenced = false;
+        clock.add(node);
+        continue;
+      }
+      return node;
+    }
+    return null;
+  }
+
+  private boolean remove(Node<K, V> node) {
+    if (data.remove(node.key, node)) {
+      retire(node);
+      return true;
+    }
+    return false;
+  }
+
+  /** Called once the node is out of the map, uncharges it if it was counted. */
+  private void retire(Node<K, V> node) {
+    if (Node.STATE.getAndSet(node, Node.REMOVED) == Node.CHARGED) {
+      size.decrementAndGet();
+    }
+  }
+
+  private boolean isExpired(Node<K, V> node, long now) {
+    return expireAfterWriteNanos != 0
+        && isLoaded(node)
+        && now - node.writeTime >= expireAfterWriteNanos;
+  }
+
+  private static boolean isLoaded(Node<?, ?> node) {
+    CompletableFuture<?> future = node.future;
+    return future.isDone() && !future.isCompletedExceptionally();
+  }
+
+  /** A cache entry, its future is replaced by a refresh. */
+  private static final class Node<K, V> {
+    @SuppressWarnings("rawtypes")
+    static final AtomicIntegerFieldUpdater<Node> REFRESHING =
+        AtomicIntegerFieldUpdater.newUpdater(Node.class, "refreshing");
+
+    @SuppressWarnings("rawtypes")
+    static final AtomicIntegerFieldUpdater<Node> STATE =
+        AtomicIntegerFieldUpdater.newUpdater(Node.class, "state");
+
+    /** Loading (weighs nothing), charged to the size, or removed from the map. */
+    static final int LOADING = 0;
+
+    static final int CHARGED = 1;
+    static final int REMOVED = 2;
+
+    final K key;
+    volatile CompletableFuture<V> future = new CompletableFuture<>();
+    volatile long writeTime;
+
+    /** CLOCK reference bit, set by every read and cleared by the clock hand. */
+    volatile boolean referenced;
+
+    volatile int refreshing;
+
+    volatile int state = LOADING;
+
+    Node(K key, long writeTime) {
+      this.key = key;
+      this.writeTime = writeTime;
+    }
+  }
+}
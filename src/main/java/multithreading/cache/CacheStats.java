@@ -0,0 +1,110 @@
+package multithreading.cache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of the counters of an {@link AsyncLoadingCache}.
+ *
+ * <p>A get() which finds a load already in flight for its key is a hit :- it doesn't start a load
+ * of its own, which is the whole point of caching the futures rather than the values.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 15 : 48 : 36)
+ */
+public final class CacheStats {
+  private final long hitCount;
+  private final long missCount;
+  private final long loadSuccessCount;
+  private final long loadFailureCount;
+  private final long refreshCount;
+  private final long totalLoadTime;
+  private final long evictionCount;
+  private final long rejectionCount;
+
+  CacheStats(
+      long hitCount,
+      long missCount,
+      long loadSuccessCount,
+      long loadFailureCount,
+      long refreshCount,
+      long totalLoadTime,
+      long evictionCount,
+      long rejectionCount) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.loadSuccessCount = loadSuccessCount;
+    this.loadFailureCount = loadFailureCount;
+    this.refreshCount = refreshCount;
+    this.totalLoadTime = totalLoadTime;
+    this.evictionCount = evictionCount;
+    this.rejectionCount = rejectionCount;
+  }
+
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  public long getMissCount() {
+    return missCount;
+  }
+
+  public long getRequestCount() {
+    return hitCount + missCount;
+  }
+
+  /** Fraction of the requests which didn't start a load, 1 when there was no request yet. */
+  public double getHitRate() {
+    long requests = getRequestCount();
+    return requests == 0 ? 1 : (double) hitCount / requests;
+  }
+
+  public long getLoadSuccessCount() {
+    return loadSuccessCount;
+  }
+
+  public long getLoadFailureCount() {
+    return loadFailureCount;
+  }
+
+  /** Number of background reloads started by refresh after write. */
+  public long getRefreshCount() {
+    return refreshCount;
+  }
+
+  /** Time spent by all the loads (including refreshes), from start to completion. */
+  public long getTotalLoadTime(TimeUnit unit) {
+    return unit.convert(totalLoadTime, TimeUnit.NANOSECONDS);
+  }
+
+  /** Average time of a load in nanoseconds. */
+  public double getAverageLoadPenalty() {
+    long loads = loadSuccessCount + loadFailureCount;
+    return loads == 0 ? 0 : (double) totalLoadTime / loads;
+  }
+
+  /** Number of entries removed to keep the cache within its maximum size. */
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /** Number of new entries which were dropped because they were less popular than the victim. */
+  public long getRejectionCount() {
+    return rejectionCount;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "hits=%d misses=%d hitRate=%.3f loads=%d failures=%d refreshes=%d avgLoad=%.2f ms"
+            + " evictions=%d rejections=%d",
+        hitCount,
+        missCount,
+        getHitRate(),
+        loadSuccessCount,
+        loadFailureCount,
+        refreshCount,
+        getAverageLoadPenalty() / 1_000_000,
+        evictionCount,
+        rejectionCount);
+  }
+}
@@ -0,0 +1,107 @@
+package multithreading.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Approximate access frequency of the keys of a cache, the popularity estimate used by TinyLFU.
+ *
+ * <p>A count-min sketch with 4-bit counters :- every key increments one counter in each of 4 rows
+ * (picked by different hashes) and its frequency is the smallest of its 4 counters, so collisions
+ * can only overestimate. 16 counters are packed in each long and the table has one long per cache
+ * entry, i.e. 8 bytes per entry whatever the number of distinct keys.
+ *
+ * <p>Counters saturate at 15 and after 10 * maximum size increments all of them are halved, so the
+ * keys which were popular a long time ago slowly lose their frequency (aging).
+ *
+ * <p>Increments are lock free (compare-and-swap of the long holding the counter), an increment
+ * racing with the halving may be lost, which only makes the estimate slightly less precise.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 15 : 48 : 36)
+ */
+final class FrequencySketch {
+  private static final long[] SEEDS = {
+    0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+  };
+  private static final long ONE_MASK = 0x7777777777777777L;
+
+  private final AtomicLongArray table;
+  private final int tableMask;
+  private final int sampleSize;
+  private final AtomicInteger additions = new AtomicInteger();
+
+  FrequencySketch(long maximumSize) {
+    int length = ceilingPowerOfTwo((int) Math.min(Math.max(maximumSize, 16), 1 << 30));
+    this.table = new AtomicLongArray(length);
+    this.tableMask = length - 1;
+    this.sampleSize = (int) Math.min(10L * length, Integer.MAX_VALUE);
+  }
+
+  /** Estimated number of times the key was recorded, from 0 to 15. */
+  int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int start = (hash & 3) << 2;
+    int frequency = Integer.MAX_VALUE;
+    for (int row = 0; row < 4; row++) {
+      int index = indexOf(hash, row);
+      int count = (int) ((table.get(index) >>> ((start + row) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  void increment(Object key) {
+    int hash = spread(key.hashCode());
+    int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int row = 0; row < 4; row++) {
+      added |= incrementAt(indexOf(hash, row), start + row);
+    }
+    if (added && additions.incrementAndGet() == sampleSize) {
+      halve();
+    }
+  }
+
+  private boolean incrementAt(int index, int counter) {
+    int offset = counter << 2;
+    long mask = 0xfL << offset;
+    while (true) {
+      long current = table.get(index);
+      if ((current & mask) == mask) {
+        return false;
+      }
+      if (table.compareAndSet(index, current, current + (1L << offset))) {
+        return true;
+      }
+    }
+  }
+
+  private void halve() {
+    for (int i = 0; i < table.length(); i++) {
+      while (true) {
+        long current = table.get(i);
+        if (table.compareAndSet(i, current, (current >>> 1) & ONE_MASK)) {
+          break;
+        }
+      }
+    }
+    additions.addAndGet(-sampleSize / 2);
+  }
+
+  private int indexOf(int hash, int row) {
+    long value = (hash + SEEDS[row]) * SEEDS[row];
+    value += value >>> 32;
+    return ((int) value) & tableMask;
+  }
+
+  private static int spread(int hash) {
+    hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+    hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+    return (hash >>> 16) ^ hash;
+  }
+
+  private static int ceilingPowerOfTwo(int value) {
+    return 1 << -Integer.numberOfLeadingZeros(value - 1);
+  }
+}
@@ -0,0 +1,133 @@
+package multithreading.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shows the three things {@link AsyncLoadingCache} does on top of CompletableFuture.supplyAsync()
+ * :- concurrent misses of a key share one load, a scan of one-off keys doesn't flush the hot keys,
+ * and stale entries are refreshed in the background.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 15 : 48 : 36)
+ */
+public class MyAsyncLoadingCache {
+  public static void main(String[] args) throws InterruptedException {
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+    System.out.println("****Concurrent misses share one load****\n");
+    coalescedLoads(executorService);
+
+    System.out.println("\n****Hot keys survive a scan****\n");
+    frequencyAwareEviction();
+
+    System.out.println("\n****Refresh after write****\n");
+    backgroundRefresh(executorService);
+
+    executorService.shutdown();
+  }
+
+  /** 100 gets of the same key while its (slow) load is in flight make a single load. */
+  private static void coalescedLoads(ExecutorService executorService) {
+    AtomicInteger loads = new AtomicInteger();
+    AsyncLoadingCache<String, String> cache =
+        new AsyncLoadingCache<>(
+            key ->
+                CompletableFuture.supplyAsync(
+                    () -> {
+                      loads.incrementAndGet();
+                      sleep(200);
+                      return "(Loaded " + key + ")";
+                    },
+                    executorService),
+            100);
+
+    List<CompletableFuture<String>> futures = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      futures.add(
+          CompletableFuture.supplyAsync(() -> cache.get("user-42"), executorService)
+              .thenCompose(future -> future));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+    System.out.println("Result : " + futures.get(0).join());
+    System.out.println("Gets : " + futures.size() + ", loads : " + loads.get());
+    System.out.println(cache.stats());
+  }
+
+  /**
+   * 20 hot keys are read all the time, in between every read 5 one-off keys are read once. The
+   * cache holds 50 entries, a LRU cache would be flushed by the one-off keys over and over again.
+   */
+  private static void frequencyAwareEviction() {
+    AsyncLoadingCache<Integer, Integer> cache =
+        new AsyncLoadingCache<>(key -> CompletableFuture.completedFuture(key * 2), 50);
+
+    int hotHits = 0;
+    int hotGets = 0;
+    int oneOffKey = 1000;
+    for (int round = 0; round < 2000; round++) {
+      int hotKey = round % 20;
+      hotGets++;
+      if (cache.getIfPresent(hotKey) != null) {
+        hotHits++;
+      }
+      cache.get(hotKey).join();
+      for (int i = 0; i < 5; i++) {
+        cache.get(oneOffKey++).join();
+      }
+    }
+
+    System.out.printf("Hot keys hit rate : %.3f%n", (double) hotHits / hotGets);
+    System.out.println("Size : " + cache.estimatedSize());
+    System.out.println(cache.stats());
+  }
+
+  /**
+   * With refresh after 100 ms, a get() after 150 ms still returns the old value at once and starts
+   * the reload, a later get() returns the new value.
+   */
+  private static void backgroundRefresh(ExecutorService executorService)
+      throws InterruptedException {
+    AtomicInteger version = new AtomicInteger();
+    AsyncLoadingCache<String, String> cache =
+        new AsyncLoadingCache<>(
+            key ->
+                CompletableFuture.supplyAsync(
+                    () -> {
+                      sleep(50);
+                      return key + " v" + version.incrementAndGet();
+                    },
+                    executorService),
+            100,
+            1000,
+            100,
+            TimeUnit.MILLISECONDS);
+
+    System.out.println("First get : " + cache.get("config").join());
+    TimeUnit.MILLISECONDS.sleep(150);
+    long start = System.nanoTime();
+    System.out.println(
+        "Stale get : "
+            + cache.get("config").join()
+            + " in "
+            + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+            + " ms");
+    TimeUnit.MILLISECONDS.sleep(100);
+    System.out.println("After refresh : " + cache.get("config").join());
+    System.out.println(cache.stats());
+  }
+
+  private static void sleep(long millis) {
+    try {
+      TimeUnit.MILLISECONDS.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
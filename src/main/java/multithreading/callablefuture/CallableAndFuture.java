@@ -1,8 +1,7 @@
 package multithreading.callablefuture;
 
-import java.time.LocalTime;
-import java.time.temporal.ChronoUnit;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A Callable is similar to Runnable except that it can return a result and throw a checked
@@ -32,6 +31,15 @@ public class CallableAndFuture {
     System.out.println("\n****Return Future from Callable within time limit****\n");
     futureFromCallableInTimeLimit();
 
+    System.out.println("\n****Hedged Callable for occasional slow executions****\n");
+    hedgedFutureFromCallable();
+
+    System.out.println("\n****Fan-out in a TaskScope, siblings cancelled on failure****\n");
+    scopedFanOut();
+
+    System.out.println("\n****First replica wins in a TaskScope****\n");
+    firstReplicaInScope();
+
     /** Cancelling a Future */
     System.out.println("\n****Cancelling a Future****\n");
     cancellingFuture();
@@ -75,24 +83,145 @@ public class CallableAndFuture {
     executorService.shutdown();
   }
 
-  /** Cancel the future and to get the value safely without getting the Exception */
-  private static void cancellingFuture() {
-    ExecutorService executorService = Executors.newSingleThreadExecutor();
+  /**
+   * Instead of waiting for a slow task until the timeout and failing, {@link HedgingExecutor}
+   * starts a duplicate of any task which is slower than 95% of the earlier tasks of its type and
+   * takes whichever copy completes first, the other copy is cancelled.
+   *
+   * <p>Here every 30th execution is slow (500 ms instead of 10 ms), its hedge is a fast execution.
+   */
+  private static void hedgedFutureFromCallable() {
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    HedgingExecutor hedgingExecutor = new HedgingExecutor(executorService, 95, 0.2, 16);
+    AtomicInteger executions = new AtomicInteger();
 
-    LocalTime statTime = LocalTime.now();
-    Future<String> future = executorService.submit(new MyCallable());
+    Callable<String> callable =
+        () -> {
+          int execution = executions.incrementAndGet();
+          TimeUnit.MILLISECONDS.sleep(execution % 30 == 0 ? 500 : 10);
+          return "(Returned from execution " + execution + ")";
+        };
 
-    while (!future.isDone()) {
-      System.out.println("Task is still not done...");
+    long slowest = 0;
+    for (int i = 0; i < 100; i++) {
+      long start = System.currentTimeMillis();
       try {
-        Thread.sleep(200);
-      } catch (InterruptedException e) {
+        hedgingExecutor.submit("remote-call", callable).get();
+      } catch (InterruptedException | ExecutionException e) {
         e.printStackTrace();
       }
+      slowest = Math.max(slowest, System.currentTimeMillis() - start);
+    }
+
+    System.out.println(
+        "Hedge after : "
+            + hedgingExecutor.getHedgeDelay("remote-call", TimeUnit.MILLISECONDS)
+            + " ms");
+    System.out.println(
+        "Hedged : "
+            + hedgingExecutor.getHedgedCount()
+            + ", hedges won : "
+            + hedgingExecutor.getHedgeWinCount());
+    System.out.println("Slowest call : " + slowest + " ms");
 
-      if (ChronoUnit.SECONDS.between(statTime, LocalTime.now()) >= 1) {
-        future.cancel(true);
+    hedgingExecutor.close();
+    executorService.shutdown();
+  }
+
+  /**
+   * Three Callables are forked into one {@link TaskScope.ShutdownOnFailure} with a 3 second
+   * deadline. The profile lookup fails after 100 ms, so the scope is shut down and its two slow
+   * siblings are interrupted right away instead of running for 2 seconds for a result nobody will
+   * use.
+   */
+  private static void scopedFanOut() {
+    ExecutorService executorService = Executors.newFixedThreadPool(3);
+    AtomicInteger abandoned = new AtomicInteger();
+
+    long start = System.currentTimeMillis();
+    try (TaskScope.ShutdownOnFailure scope =
+        new TaskScope.ShutdownOnFailure(executorService, Deadline.after(3, TimeUnit.SECONDS))) {
+      TaskScope.Subtask<String> orders = scope.fork(() -> slowCall("orders", abandoned));
+      TaskScope.Subtask<String> offers = scope.fork(() -> slowCall("offers", abandoned));
+      scope.fork(
+          () -> {
+            TimeUnit.MILLISECONDS.sleep(100);
+            throw new IllegalStateException("profile service is down");
+          });
+
+      scope.join().throwIfFailed();
+      System.out.println(orders.get() + " " + offers.get());
+    } catch (ExecutionException e) {
+      System.out.println("Fan-out failed : " + e.getCause().getMessage());
+    } catch (InterruptedException | TimeoutException e) {
+      e.printStackTrace();
+    }
+
+    System.out.println(
+        "Done in "
+            + (System.currentTimeMillis() - start)
+            + " ms, "
+            + abandoned
+            + " subtasks cancelled");
+    executorService.shutdown();
+  }
+
+  private static String slowCall(String name, AtomicInteger abandoned) throws InterruptedException {
+    try {
+      TimeUnit.SECONDS.sleep(2);
+    } catch (InterruptedException e) {
+      abandoned.incrementAndGet();
+      throw e;
+    }
+    return "(Returned from " + name + ")";
+  }
+
+  /**
+   * The same request is sent to three replicas in a {@link TaskScope.ShutdownOnSuccess}, the first
+   * answer is used and the slower replicas are cancelled.
+   */
+  private static void firstReplicaInScope() {
+    ExecutorService executorService = Executors.newFixedThreadPool(3);
+
+    try (TaskScope.ShutdownOnSuccess<String> scope =
+        new TaskScope.ShutdownOnSuccess<>(executorService)) {
+      for (int replica = 1; replica <= 3; replica++) {
+        int latency = replica * 300;
+        String name = "replica-" + replica;
+        scope.fork(
+            () -> {
+              TimeUnit.MILLISECONDS.sleep(latency);
+              return "(Returned from " + name + " in " + latency + " ms)";
+            });
       }
+      System.out.println("Result : " + scope.join().result());
+    } catch (InterruptedException | ExecutionException | TimeoutException e) {
+      e.printStackTrace();
+    }
+
+    executorService.shutdown();
+  }
+
+  /**
+   * Cancel the future and to get the value safely without getting the Exception
+   *
+   * <p>Instead of polling future.isDone() in a sleep() loop and cancelling after checking the
+   * clock, the deadline is handed over to {@link DeadlineService} whose single timer thread cancels
+   * the task (with interruption) exactly when its deadline passes. The same timer thread can track
+   * the deadlines of thousands of futures.
+   */
+  private static void cancellingFuture() {
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    DeadlineService deadlineService = new DeadlineService();
+
+    Future<String> future =
+        deadlineService.submit(executorService, new MyCallable(), 1, TimeUnit.SECONDS);
+
+    System.out.println("Task is still not done...");
+    try {
+      future.get();
+    } catch (InterruptedException | ExecutionException | CancellationException e) {
+      // the cancellation is reported below
     }
 
     if (!future.isCancelled()) {
@@ -106,6 +235,7 @@ public class CallableAndFuture {
       System.out.println("Task was cancelled !");
     }
 
+    deadlineService.close();
     executorService.shutdown();
   }
 
@@ -140,10 +270,10 @@ public class CallableAndFuture {
   }
 }
 
-class MyCallable implements Callable {
+class MyCallable implements Callable<String> {
 
   @Override
-  public Object call() throws Exception {
+  public String call() throws Exception {
     System.out.println("Enter into My Callable");
     TimeUnit.SECONDS.sleep(2);
     return "(Returned from lambda Callable)";
@@ -0,0 +1,90 @@
+package multithreading.callablefuture;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A point in time (on the System.nanoTime() clock, so it is not affected by wall clock changes) by
+ * which some work has to be finished.
+ *
+ * <p>While a task submitted through {@link DeadlineService} runs, its deadline is the
+ * <b>current</b> deadline of the running thread, see {@link #current()}. Tasks submitted from
+ * inside it inherit that deadline, so a whole tree of calls shares the time budget of the outermost
+ * one.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 13 : 42 : 17)
+ */
+public final class Deadline implements Comparable<Deadline> {
+  private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+  private final long nanoTime;
+
+  private Deadline(long nanoTime) {
+    this.nanoTime = nanoTime;
+  }
+
+  public static Deadline after(long duration, TimeUnit unit) {
+    return new Deadline(System.nanoTime() + unit.toNanos(duration));
+  }
+
+  /** Deadline of the task running on the current thread, or null if it doesn't have one. */
+  public static Deadline current() {
+    return CURRENT.get();
+  }
+
+  /** Returns the earlier of the two deadlines, where null means no deadline. */
+  public static Deadline earliest(Deadline first, Deadline second) {
+    if (first == null) {
+      return second;
+    }
+    if (second == null) {
+      return first;
+    }
+    return first.compareTo(second) <= 0 ? first : second;
+  }
+
+  /** Time left until the deadline, zero or negative once it has passed. */
+  public long remaining(TimeUnit unit) {
+    return unit.convert(nanoTime - System.nanoTime(), TimeUnit.NANOSECONDS);
+  }
+
+  public boolean isExpired() {
+    return nanoTime - System.nanoTime() <= 0;
+  }
+
+  /** Makes this the current deadline and returns the previous one, to be passed to restore(). */
+  Deadline enter() {
+    Deadline previous = CURRENT.get();
+    CURRENT.set(this);
+    return previous;
+  }
+
+  static void restore(Deadline previous) {
+    if (previous == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+
+  @Override
+  public int compareTo(Deadline other) {
+    // compare the difference, nanoTime values may overflow
+    return Long.signum(nanoTime - other.nanoTime);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof Deadline && ((Deadline) other).nanoTime == nanoTime;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(nanoTime);
+  }
+
+  @Override
+  public String toString() {
+    return "Deadline[" + remaining(TimeUnit.MILLISECONDS) + " ms remaining]";
+  }
+}
@@ -0,0 +1,165 @@
+package multithreading.callablefuture;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Enforces the deadlines of any number of in-flight tasks with a single timer thread.
+ *
+ * <p>Instead of every caller polling future.isDone() in a sleep() loop (one blocked thread and up
+ * to one sleep interval of delay per future), each deadline is an entry in the queue of a
+ * ScheduledThreadPoolExecutor with one thread. When the deadline passes, the timer cancels the task
+ * with interruption, i.e. a running task gets an InterruptedException at that moment and a task
+ * still waiting in the executor's queue is never started.
+ *
+ * <p>When a task completes before its deadline, its timer entry is removed from the queue straight
+ * away (remove on cancel policy), so finished tasks don't pile up in the timer.
+ *
+ * <p>Deadlines propagate :- while a task submitted here runs, its deadline is {@link
+ * Deadline#current()}, and a child task submitted from it can't get a later deadline than its
+ * parent.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 13 : 42 : 17)
+ */
+public class DeadlineService implements AutoCloseable {
+  private static final AtomicInteger SERVICE_NUMBER = new AtomicInteger();
+
+  private final ScheduledThreadPoolExecutor timer;
+
+  public DeadlineService() {
+    String name = "deadline-timer-" + SERVICE_NUMBER.incrementAndGet();
+    timer =
+        new ScheduledThreadPoolExecutor(
+            1,
+            runnable -> {
+              Thread thread = new Thread(runnable, name);
+              thread.setDaemon(true);
+              return thread;
+            });
+    timer.setRemoveOnCancelPolicy(true);
+  }
+
+  /** Submits the task to the executor and cancels it if it doesn't complete within the timeout. */
+  public <T> Future<T> submit(
+      ExecutorService executor, Callable<T> task, long timeout, TimeUnit unit) {
+    return submit(executor, task, Deadline.after(timeout, unit));
+  }
+
+  /**
+   * Submits the task to the executor and cancels it at the deadline, or at the deadline of the
+   * calling task if that one is earlier.
+   */
+  public <T> Future<T> submit(ExecutorService executor, Callable<T> task, Deadline deadline) {
+    DeadlineTask<T> future =
+        new DeadlineTask<>(task, Deadline.earliest(deadline, Deadline.current()));
+    executor.execute(future);
+    future.scheduleTimeout(this);
+    return future;
+  }
+
+  /** Submits the task to the executor with the deadline of the calling task, if it has one. */
+  public <T> Future<T> submit(ExecutorService executor, Callable<T> task) {
+    return submit(executor, task, (Deadline) null);
+  }
+
+  /**
+   * Cancels (with interruption) a future created elsewhere at the deadline. The timer entry of such
+   * a future stays until the deadline because there is no way to know when it completes, prefer
+   * {@link #submit(ExecutorService, Callable, Deadline)} when possible.
+   */
+  public <F extends Future<?>> F cancelAt(F future, Deadline deadline) {
+    schedule(() -> future.cancel(true), deadline);
+    return future;
+  }
+
+  /**
+   * Completes the CompletableFuture with a TimeoutException at the deadline, unless it completes
+   * before that.
+   *
+   * <p>CompletableFuture.orTimeout() does the same, but it takes a relative timeout instead of the
+   * absolute deadline and schedules it on a JVM-wide delayer thread shared by every library in the
+   * process. Going through this service's timer keeps the entry visible in {@link
+   * #pendingDeadlines()} and drops it with {@link #close()}, like the deadlines of submitted tasks.
+   */
+  public <T> CompletableFuture<T> within(CompletableFuture<T> future, Deadline deadline) {
+    if (!future.isDone()) {
+      ScheduledFuture<?> timeout =
+          schedule(
+              () -> future.completeExceptionally(new TimeoutException(deadline.toString())),
+              deadline);
+      future.whenComplete((value, throwable) -> timeout.cancel(false));
+    }
+    return future;
+  }
+
+  /** Number of deadlines currently tracked by the timer. */
+  public int pendingDeadlines() {
+    return timer.getQueue().size();
+  }
+
+  @Override
+  public void close() {
+    timer.shutdownNow();
+  }
+
+  private ScheduledFuture<?> schedule(Runnable action, Deadline deadline) {
+    return timer.schedule(
+        action, Math.max(0, deadline.remaining(TimeUnit.NANOSECONDS)), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * FutureTask which runs with its deadline as the current deadline and removes its timer entry as
+   * soon as it is done.
+   */
+  private static final class DeadlineTask<T> extends FutureTask<T> {
+    private final Deadline deadline;
+    private volatile ScheduledFuture<?> timeout;
+
+    DeadlineTask(Callable<T> callable, Deadline deadline) {
+      super(callable);
+      this.deadline = deadline;
+    }
+
+    void scheduleTimeout(DeadlineService service) {
+      if (deadline == null || isDone()) {
+        return;
+      }
+      timeout = service.schedule(() -> cancel(true), deadline);
+      // done() may have run before the timeout was assigned
+      if (isDone()) {
+        timeout.cancel(false);
+      }
+    }
+
+    @Override
+    public void run() {
+      if (deadline == null) {
+        super.run();
+        return;
+      }
+      Deadline previous = deadline.enter();
+      try {
+        super.run();
+      } finally {
+        Deadline.restore(previous);
+      }
+    }
+
+    @Override
+    protected void done() {
+      ScheduledFuture<?> scheduled = timeout;
+      if (scheduled != null) {
+        scheduled.cancel(false);
+      }
+    }
+  }
+}
@@ -0,0 +1,421 @@
+package multithreading.callablefuture;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Fan-out/fan-in combinators for joining a large number of CompletableFutures.
+ *
+ * <p>CompletableFuture.allOf() only tells when everything is done, it returns a
+ * CompletableFuture&lt;Void&gt; and every result still has to be fetched with join() afterwards,
+ * and it has no notion of the first success, a quorum or a limit on the futures in flight. Each
+ * combinator below completes <b>one</b> future of its own, which is handed back to the caller :-
+ *
+ * <p>1. results are written straight into a preallocated array, one slot per input.
+ *
+ * <p>2. inputs which are already complete are read directly, without registering any callback.
+ *
+ * <p>3. pending inputs register their callback with whenComplete(). A CompletableFuture offers no
+ * cheaper way to be called back, so this still allocates a dependent future and a completion node
+ * per input, about what allOf() allocates per input. These combinators are about the shape of the
+ * result, not about allocating less.
+ *
+ * <p>Failures are unwrapped from CompletionException, so the returned future fails with the
+ * original exception.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 13 : 10 : 42)
+ */
+public final class FutureCombinators {
+  private FutureCombinators() {}
+
+  /**
+   * Completes with all the results, in the order of the input, as soon as every future completes
+   * successfully, or fails with the first failure.
+   */
+  public static <T> CompletableFuture<T[]> allOf(
+      List<? extends CompletableFuture<? extends T>> futures, IntFunction<T[]> generator) {
+    AllOf<T, T[]> all = new AllOf<>(generator.apply(futures.size()), false);
+    all.start(futures);
+    return all;
+  }
+
+  /**
+   * Same as {@link #allOf(List, IntFunction)} but the results are returned as a fixed size list.
+   */
+  public static <T> CompletableFuture<List<T>> allAsList(
+      List<? extends CompletableFuture<? extends T>> futures) {
+    AllOf<Object, List<T>> all = new AllOf<>(new Object[futures.size()], true);
+    all.start(futures);
+    return all;
+  }
+
+  /** Completes the same way as whichever future completes first, successfully or not. */
+  public static <T> CompletableFuture<T> anyOf(
+      List<? extends CompletableFuture<? extends T>> futures) {
+    AnyOf<T> any = new AnyOf<>();
+    for (CompletableFuture<? extends T> future : futures) {
+      if (any.isDone()) {
+        break;
+      }
+      if (future.isDone()) {
+        readNow(future, any);
+      } else {
+        future.whenComplete(any);
+      }
+    }
+    return any;
+  }
+
+  /**
+   * Completes with the first successful result, and fails only when every future has failed (with
+   * the failure of the last one).
+   */
+  public static <T> CompletableFuture<T> firstSuccessful(
+      List<? extends CompletableFuture<? extends T>> futures) {
+    FirstSuccessful<T> first = new FirstSuccessful<>(futures.size());
+    if (futures.isEmpty()) {
+      first.completeExceptionally(new IllegalArgumentException("No futures to wait for"));
+    }
+    for (CompletableFuture<? extends T> future : futures) {
+      if (first.isDone()) {
+        break;
+      }
+      if (future.isDone()) {
+        readNow(future, first);
+      } else {
+        future.whenComplete(first);
+      }
+    }
+    return first;
+  }
+
+  /**
+   * k-of-n :- completes with the first <b>required</b> successful results (in completion order) or
+   * fails as soon as so many futures have failed that the quorum can't be reached any more.
+   */
+  public static <T> CompletableFuture<List<T>> quorum(
+      List<? extends CompletableFuture<? extends T>> futures, int required) {
+    if (required < 0 || required > futures.size()) {
+      throw new IllegalArgumentException(
+          "Quorum of " + required + " is not possible with " + futures.size() + " futures");
+    }
+    Quorum<T> quorum = new Quorum<>(required, futures.size() - required);
+    if (required == 0) {
+      quorum.complete(Collections.emptyList());
+    }
+    for (CompletableFuture<? extends T> future : futures) {
+      if (quorum.isDone()) {
+        break;
+      }
+      if (future.isDone()) {
+        readNow(future, quorum);
+      } else {
+        future.whenComplete(quorum);
+      }
+    }
+    return quorum;
+  }
+
+  /**
+   * Applies the async function to every item with at most <b>maxConcurrency</b> of the returned
+   * futures pending at any time, i.e. the next item is started only when an earlier one completes.
+   *
+   * <p>Completes with the results in the order of the items or fails with the first failure, in
+   * which case no more items are started.
+   */
+  public static <T, R> CompletableFuture<List<R>> mapAsync(
+      Collection<? extends T> items,
+      Function<? super T, ? extends CompletableFuture<? extends R>> function,
+      int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be positive : " + maxConcurrency);
+    }
+    MapAsync<T, R> map = new MapAsync<>(items.toArray(), function);
+    if (items.isEmpty()) {
+      map.complete(Collections.emptyList());
+    }
+    for (int i = 0; i < maxConcurrency && !map.isDone(); i++) {
+      map.launchNext();
+    }
+    return map;
+  }
+
+  /** Passes the outcome of an already completed future to the callback without registering it. */
+  private static <T> void readNow(
+      CompletableFuture<? extends T> future, BiConsumer<? super T, ? super Throwable> callback) {
+    T value;
+    try {
+      value = future.getNow(null);
+    } catch (CompletionException e) {
+      callback.accept(null, e);
+      return;
+    } catch (CancellationException e) {
+      callback.accept(null, e);
+      return;
+    }
+    callback.accept(value, null);
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
+
+  private static final class AllOf<E, R> extends CompletableFuture<R> {
+    @SuppressWarnings("unchecked")
+    private static final AtomicIntegerFieldUpdater<AllOf<?, ?>> PENDING =
+        (AtomicIntegerFieldUpdater<AllOf<?, ?>>)
+            (AtomicIntegerFieldUpdater<?>)
+                AtomicIntegerFieldUpdater.newUpdater(AllOf.class, "pending");
+
+    private final E[] results;
+    private final boolean asList;
+    private volatile int pending;
+
+    AllOf(E[] results, boolean asList) {
+      this.results = results;
+      this.asList = asList;
+      this.pending = results.length;
+    }
+
+    void start(List<? extends CompletableFuture<? extends E>> futures) {
+      if (results.length == 0) {
+        finish();
+        return;
+      }
+      int index = 0;
+      for (CompletableFuture<? extends E> future : futures) {
+        if (isDone()) {
+          return;
+        }
+        Slot<E> slot = new Slot<>(this, index++);
+        if (future.isDone()) {
+          readNow(future, slot);
+        } else {
+          future.whenComplete(slot);
+        }
+      }
+    }
+
+    void set(int index, E value) {
+      results[index] = value;
+      // the decrement publishes the write above to whoever brings pending down to zero
+      if (PENDING.decrementAndGet(this) == 0) {
+        finish();
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void finish() {
+      complete(asList ? (R) Arrays.asList(results) : (R) results);
+    }
+  }
+
+  private static final class Slot<E> implements BiConsumer<E, Throwable> {
+    private final AllOf<E, ?> all;
+    private final int index;
+
+    Slot(AllOf<E, ?> all, int index) {
+      this.all = all;
+      this.index = index;
+    }
+
+    @Override
+    public void accept(E value, Throwable throwable) {
+      if (throwable != null) {
+        all.completeExceptionally(unwrap(throwable));
+      } else {
+        all.set(index, value);
+      }
+    }
+  }
+
+  private static final class AnyOf<T> extends CompletableFuture<T>
+      implements BiConsumer<T, Throwable> {
+    @Override
+    public void accept(T value, Throwable throwable) {
+      if (throwable != null) {
+        completeExceptionally(unwrap(throwable));
+      } else {
+        complete(value);
+      }
+    }
+  }
+
+  private static final class FirstSuccessful<T> extends CompletableFuture<T>
+      implements BiConsumer<T, Throwable> {
+    @SuppressWarnings("unchecked")
+    private static final AtomicIntegerFieldUpdater<FirstSuccessful<?>> REMAINING =
+        (AtomicIntegerFieldUpdater<FirstSuccessful<?>>)
+            (AtomicIntegerFieldUpdater<?>)
+                AtomicIntegerFieldUpdater.newUpdater(FirstSuccessful.class, "remaining");
+
+    private volatile int remaining;
+
+    FirstSuccessful(int count) {
+      this.remaining = count;
+    }
+
+    @Override
+    public void accept(T value, Throwable throwable) {
+      if (throwable == null) {
+        complete(value);
+      } else if (REMAINING.decrementAndGet(this) == 0) {
+        completeExceptionally(unwrap(throwable));
+      }
+    }
+  }
+
+  private static final class Quorum<T> extends CompletableFuture<List<T>>
+      implements BiConsumer<T, Throwable> {
+    @SuppressWarnings("unchecked")
+    private static final AtomicIntegerFieldUpdater<Quorum<?>> CLAIMED =
+        (AtomicIntegerFieldUpdater<Quorum<?>>)
+            (AtomicIntegerFieldUpdater<?>)
+                AtomicIntegerFieldUpdater.newUpdater(Quorum.class, "claimed");
+
+    @SuppressWarnings("unchecked")
+    private static final AtomicIntegerFieldUpdater<Quorum<?>> FILLED =
+        (AtomicIntegerFieldUpdater<Quorum<?>>)
+            (AtomicIntegerFieldUpdater<?>)
+                AtomicIntegerFieldUpdater.newUpdater(Quorum.class, "filled");
+
+    @SuppressWarnings("unchecked")
+    private static final AtomicIntegerFieldUpdater<Quorum<?>> FAILED =
+        (AtomicIntegerFieldUpdater<Quorum<?>>)
+            (AtomicIntegerFieldUpdater<?>)
+                AtomicIntegerFieldUpdater.newUpdater(Quorum.class, "failed");
+
+    private final Object[] results;
+    private final int tolerated;
+    private volatile int claimed;
+    private volatile int filled;
+    private volatile int failed;
+
+    Quorum(int required, int tolerated) {
+      this.results = new Object[required];
+      this.tolerated = tolerated;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void accept(T value, Throwable throwable) {
+      if (throwable != null) {
+        if (FAILED.incrementAndGet(this) > tolerated) {
+          completeExceptionally(unwrap(throwable));
+        }
+        return;
+      }
+      int index = CLAIMED.getAndIncrement(this);
+      if (index >= results.length) {
+        return;
+      }
+      results[index] = value;
+      // a slot may be claimed before an earlier one is written, so count the writes separately
+      if (FILLED.incrementAndGet(this) == results.length) {
+        complete((List<T>) Arrays.asList(results));
+      }
+    }
+  }
+
+  private static final class MapAsync<T, R> extends CompletableFuture<List<R>> {
+    @SuppressWarnings("unchecked")
+    private static final AtomicIntegerFieldUpdater<MapAsync<?, ?>> CURSOR =
+        (AtomicIntegerFieldUpdater<MapAsync<?, ?>>)
+            (AtomicIntegerFieldUpdater<?>)
+                AtomicIntegerFieldUpdater.newUpdater(MapAsync.class, "cursor");
+
+    @SuppressWarnings("unchecked")
+    private static final AtomicIntegerFieldUpdater<MapAsync<?, ?>> PENDING =
+        (AtomicIntegerFieldUpdater<MapAsync<?, ?>>)
+            (AtomicIntegerFieldUpdater<?>)
+                AtomicIntegerFieldUpdater.newUpdater(MapAsync.class, "pending");
+
+    private final Object[] items;
+    private final Object[] results;
+    private final Function<? super T, ? extends CompletableFuture<? extends R>> function;
+    private volatile int cursor;
+    private volatile int pending;
+
+    MapAsync(
+        Object[] items, Function<? super T, ? extends CompletableFuture<? extends R>> function) {
+      this.items = items;
+      this.results = new Object[items.length];
+      this.function = function;
+      this.pending = items.length;
+    }
+
+    /**
+     * Starts items until one of them is still pending. Futures which are already complete are
+     * handled in this loop instead of recursively, so a long run of them doesn't grow the stack.
+     */
+    @SuppressWarnings("unchecked")
+    void launchNext() {
+      while (!isDone()) {
+        int index = CURSOR.getAndIncrement(this);
+        if (index >= items.length) {
+          return;
+        }
+        CompletableFuture<? extends R> future;
+        try {
+          future = function.apply((T) items[index]);
+          if (future == null) {
+            throw new NullPointerException("function returned null for item " + index);
+          }
+        } catch (Throwable throwable) {
+          completeExceptionally(throwable);
+          return;
+        }
+        if (!future.isDone()) {
+          future.whenComplete(new MapSlot<>(this, index));
+          return;
+        }
+        try {
+          set(index, future.getNow(null));
+        } catch (CompletionException | CancellationException e) {
+          completeExceptionally(unwrap(e));
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    void set(int index, R value) {
+      results[index] = value;
+      if (PENDING.decrementAndGet(this) == 0) {
+        complete((List<R>) Arrays.asList(results));
+      }
+    }
+  }
+
+  private static final class MapSlot<R> implements BiConsumer<R, Throwable> {
+    private final MapAsync<?, R> map;
+    private final int index;
+
+    MapSlot(MapAsync<?, R> map, int index) {
+      this.map = map;
+      this.index = index;
+    }
+
+    @Override
+    public void accept(R value, Throwable throwable) {
+      if (throwable != null) {
+        map.completeExceptionally(unwrap(throwable));
+        return;
+      }
+      map.set(index, value);
+      map.launchNext();
+    }
+  }
+}
@@ -0,0 +1,312 @@
+package multithreading.callablefuture;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import multithreading.metrics.LatencyHistogram;
+
+/**
+ * Hedged (speculative) execution of Callables to cut the tail latency caused by occasional slow
+ * executions.
+ *
+ * <p>future.get(timeout, unit) can only give up on a slow task. Here the latency of every task type
+ * is tracked, and when a task hasn't completed by the observed percentile (p95 by default) of its
+ * type, a duplicate is started. Whichever copy completes first wins and the other one is cancelled
+ * with interruption. Only the tasks which are already slower than 95% of their kind are duplicated,
+ * i.e. about 5% extra load at most.
+ *
+ * <p>The latency of a task is measured from submit() until the returned future completes, whatever
+ * the outcome :- failed, timed out (e.g. through orTimeout()) and cancelled tasks count at the time
+ * they took, so the percentile is the one the caller actually sees.
+ *
+ * <p>A hedge budget caps the extra load :- every submitted task earns a fraction of a hedge (the
+ * budget ratio) and every hedge spends one, so when the whole dependency slows down (and every task
+ * would be past its p95) no more than that fraction of duplicates is sent to it.
+ *
+ * <p>Tasks must be idempotent, a hedged task may run twice.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 15 : 02 : 48)
+ */
+public class HedgingExecutor implements AutoCloseable {
+  /** Budget tokens are kept in thousandths of a hedge. */
+  private static final long TOKENS_PER_HEDGE = 1000;
+
+  private static final int MAX_BURST_HEDGES = 10;
+
+  private final ExecutorService executor;
+  private final double percentile;
+  private final long tokensPerTask;
+  private final int minSamples;
+  private final ConcurrentHashMap<String, LatencyTracker> trackers = new ConcurrentHashMap<>();
+  private final ScheduledThreadPoolExecutor timer;
+  private final AtomicLong budget = new AtomicLong();
+
+  private final LongAdder submitted = new LongAdder();
+  private final LongAdder hedged = new LongAdder();
+  private final LongAdder hedgeWins = new LongAdder();
+  private final LongAdder hedgesDenied = new LongAdder();
+
+  /** Hedges at p95 with a budget of 5% extra tasks, once a task type has 20 samples. */
+  public HedgingExecutor(ExecutorService executor) {
+    this(executor, 95, 0.05, 20);
+  }
+
+  public HedgingExecutor(
+      ExecutorService executor, double percentile, double budgetRatio, int minSamples) {
+    if (percentile <= 0 || percentile >= 100) {
+      throw new IllegalArgumentException("percentile must be between 0 and 100 : " + percentile);
+    }
+    this.executor = executor;
+    this.percentile = percentile;
+    this.tokensPerTask = Math.round(budgetRatio * TOKENS_PER_HEDGE);
+    this.minSamples = minSamples;
+    this.timer =
+        new ScheduledThreadPoolExecutor(
+            1,
+            runnable -> {
+              Thread thread = new Thread(runnable, "hedging-timer");
+              thread.setDaemon(true);
+              return thread;
+            });
+    timer.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * Runs the task on the executor and, if it takes longer than the percentile of the given task
+   * type, once more in parallel. Completes with the first successful result, or fails when every
+   * started copy has failed.
+   */
+  public <T> CompletableFuture<T> submit(String taskType, Callable<T> task) {
+    LatencyTracker tracker = trackers.computeIfAbsent(taskType, type -> new LatencyTracker());
+    submitted.increment();
+    budget.accumulateAndGet(
+        tokensPerTask,
+        (tokens, earned) -> Math.min(tokens + earned, MAX_BURST_HEDGES * TOKENS_PER_HEDGE));
+
+    HedgedTask<T> hedgedTask = new HedgedTask<>(tracker, task);
+    hedgedTask.start();
+    long delay = tracker.hedgeDelayNanos();
+    if (delay >= 0 && !hedgedTask.isDone()) {
+      hedgedTask.scheduleHedge(delay);
+    }
+    return hedgedTask;
+  }
+
+  /**
+   * Current hedging threshold of the task type in the given unit, -1 while it has too few samples.
+   */
+  public long getHedgeDelay(String taskType, TimeUnit unit) {
+    LatencyTracker tracker = trackers.get(taskType);
+    long delay = tracker == null ? -1 : tracker.hedgeDelayNanos();
+    return delay < 0 ? -1 : unit.convert(delay, TimeUnit.NANOSECONDS);
+  }
+
+  public long getSubmittedCount() {
+    return submitted.sum();
+  }
+
+  public long getHedgedCount() {
+    return hedged.sum();
+  }
+
+  /** Number of hedges which completed before the original task. */
+  public long getHedgeWinCount() {
+    return hedgeWins.sum();
+  }
+
+  /** Number of hedges which were not started because the budget was used up. */
+  public long getHedgesDeniedCount() {
+    return hedgesDenied.sum();
+  }
+
+  @Override
+  public void close() {
+    timer.shutdownNow();
+  }
+
+  private boolean tryAcquireHedge() {
+    long tokens;
+    do {
+      tokens = budget.get();
+      if (tokens < TOKENS_PER_HEDGE) {
+        return false;
+      }
+    } while (!budget.compareAndSet(tokens, tokens - TOKENS_PER_HEDGE));
+    return true;
+  }
+
+  /**
+   * Latency distribution of one task type. The hedging threshold is refreshed every few samples and
+   * the histogram starts over after a window of samples, so the threshold follows the recent
+   * behavior of the task type.
+   */
+  private final class LatencyTracker {
+    private static final int REFRESH_EVERY = 16;
+    private static final int WINDOW = 2048;
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final AtomicInteger samples = new AtomicInteger();
+    private volatile long threshold = -1;
+
+    void record(long nanos) {
+      histogram.record(nanos);
+      int count = samples.incrementAndGet();
+      if (count >= minSamples && count % REFRESH_EVERY == 0) {
+        refresh();
+      }
+    }
+
+    private synchronized void refresh() {
+      if (histogram.getTotalCount() >= minSamples) {
+        threshold = histogram.getValueAtPercentile(percentile);
+      }
+      if (histogram.getTotalCount() >= WINDOW) {
+        histogram.reset();
+      }
+    }
+
+    long hedgeDelayNanos() {
+      return threshold;
+    }
+  }
+
+  /** The future handed back to the caller, it owns both copies of the task. */
+  private final class HedgedTask<T> extends CompletableFuture<T> {
+    private final LatencyTracker tracker;
+    private final Callable<T> task;
+    private final long submittedAt = System.nanoTime();
+    private final AtomicInteger running = new AtomicInteger();
+    private volatile Future<?> primary;
+    private volatile Future<?> hedge;
+    private volatile ScheduledFuture<?> hedgeTimer;
+    private volatile Throwable failure;
+
+    HedgedTask(LatencyTracker tracker, Callable<T> task) {
+      this.tracker = tracker;
+      this.task = task;
+    }
+
+    void start() {
+      whenComplete((value, throwable) -> tracker.record(System.nanoTime() - submittedAt));
+      running.incrementAndGet();
+      primary = launch(false);
+      cancelIfLost(primary);
+    }
+
+    void scheduleHedge(long delayNanos) {
+      hedgeTimer = timer.schedule(this::hedge, delayNanos, TimeUnit.NANOSECONDS);
+      if (isDone()) {
+        hedgeTimer.cancel(false);
+      }
+    }
+
+    private void hedge() {
+      // counted as running while deciding, so a failing primary can't complete the future meanwhile
+      running.incrementAndGet();
+      if (isDone() || !tryAcquireHedge()) {
+        if (!isDone()) {
+          hedgesDenied.increment();
+        }
+        Throwable primaryFailure = failure;
+        if (running.decrementAndGet() == 0 && primaryFailure != null) {
+          completeExceptionally(primaryFailure);
+        }
+        return;
+      }
+      try {
+        hedge = launch(true);
+      } catch (RejectedExecutionException e) {
+        // no copy was started :- refund the budget and stop counting it, if the primary is not
+        // running any more nothing else will complete the future
+        budget.addAndGet(TOKENS_PER_HEDGE);
+        Throwable primaryFailure = failure;
+        if (running.decrementAndGet() == 0) {
+          completeExceptionally(primaryFailure != null ? primaryFailure : e);
+        }
+        return;
+      }
+      hedged.increment();
+      cancelIfLost(hedge);
+    }
+
+    private Future<?> launch(boolean isHedge) {
+      return executor.submit(
+          () -> {
+            try {
+              T value = task.call();
+              if (complete(value)) {
+                if (isHedge) {
+                  hedgeWins.increment();
+                }
+                cancelOther(isHedge);
+              }
+            } catch (Throwable throwable) {
+              failed(throwable);
+            }
+          });
+    }
+
+    /** The other copy may still succeed, fail only when no copy is left running or to start. */
+    private void failed(Throwable throwable) {
+      failure = throwable;
+      if (running.decrementAndGet() == 0 && !hedgeNow()) {
+        completeExceptionally(throwable);
+      }
+    }
+
+    /**
+     * Starts the hedge straight away if its timer hasn't fired yet, e.g. the primary failed fast.
+     */
+    private boolean hedgeNow() {
+      ScheduledFuture<?> scheduled = hedgeTimer;
+      if (scheduled == null || !scheduled.cancel(false)) {
+        return false;
+      }
+      hedge();
+      return true;
+    }
+
+    private void cancelIfLost(Future<?> attempt) {
+      if (isDone()) {
+        attempt.cancel(true);
+      }
+    }
+
+    /** Cancels the losing copy (and the hedge timer), never the winner which is still running. */
+    private void cancelOther(boolean isHedge) {
+      ScheduledFuture<?> scheduled = hedgeTimer;
+      if (scheduled != null) {
+        scheduled.cancel(false);
+      }
+      Future<?> other = isHedge ? primary : hedge;
+      if (other != null) {
+        other.cancel(true);
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      ScheduledFuture<?> scheduled = hedgeTimer;
+      if (scheduled != null) {
+        scheduled.cancel(false);
+      }
+      for (Future<?> attempt : new Future<?>[] {primary, hedge}) {
+        if (attempt != null) {
+          attempt.cancel(true);
+        }
+      }
+      return cancelled;
+    }
+  }
+}
@@ -1,5 +1,8 @@
 package multithreading.callablefuture;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -212,10 +215,66 @@ public class MyCompletableFuture {
   }
 
   private static void combineCompletableFuture() {
-    /** Combine two dependent futures using thenCompose() */
+    /**
+     * Combine two dependent futures using thenCompose() :- the second future needs the result of
+     * the first one. With thenApply() we would get a nested CompletableFuture<CompletableFuture<>>,
+     * thenCompose() flattens it.
+     */
+    CompletableFuture<String> composed =
+        CompletableFuture.supplyAsync(() -> "user-1")
+            .thenCompose(userId -> CompletableFuture.supplyAsync(() -> userId + " : credit 750"));
+
+    /**
+     * Combine two independent futures using thenCombine() :- the callback is called when both the
+     * futures are complete.
+     */
+    CompletableFuture<Double> weight = CompletableFuture.supplyAsync(() -> 65.0);
+    CompletableFuture<Double> height = CompletableFuture.supplyAsync(() -> 1.75);
+    CompletableFuture<Double> bmi = weight.thenCombine(height, (w, h) -> w / (h * h));
+
+    try {
+      System.out.println("thenCompose() : " + composed.get());
+      System.out.println("thenCombine() BMI : " + bmi.get());
+    } catch (InterruptedException | ExecutionException e) {
+      e.printStackTrace();
+    }
 
-    /** Combine two independent futures using thenCombine() */
+    /**
+     * Combining multiple CompletableFutures together using allOf(), anyOf()
+     *
+     * <p>CompletableFuture.allOf() returns CompletableFuture<Void>, so the results still have to be
+     * fetched one by one with join(). FutureCombinators collects the typed results directly and
+     * also provides firstSuccessful(), quorum() and mapAsync() with bounded concurrency.
+     */
+    List<CompletableFuture<Integer>> shards = new ArrayList<>();
+    for (int i = 1; i <= 5; i++) {
+      final int shard = i;
+      shards.add(
+          CompletableFuture.supplyAsync(
+              () -> {
+                try {
+                  TimeUnit.MILLISECONDS.sleep(100 * shard);
+                } catch (InterruptedException e) {
+                  e.printStackTrace();
+                }
+                return shard * 10;
+              }));
+    }
 
-    /** Combining multiple CompletableFutures together using allOf(), anyOf() */
+    try {
+      System.out.println(
+          "allOf() : " + Arrays.toString(FutureCombinators.allOf(shards, Integer[]::new).get()));
+      System.out.println("anyOf() : " + FutureCombinators.anyOf(shards).get());
+      System.out.println("quorum(3 of 5) : " + FutureCombinators.quorum(shards, 3).get());
+      System.out.println(
+          "mapAsync() at most 2 at a time : "
+              + FutureCombinators.mapAsync(
+                      Arrays.asList("a", "b", "c", "d"),
+                      s -> CompletableFuture.supplyAsync(s::toUpperCase),
+                      2)
+                  .get());
+    } catch (InterruptedException | ExecutionException e) {
+      e.printStackTrace();
+    }
   }
 }
@@ -0,0 +1,436 @@
+package multithreading.callablefuture;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A lightweight alternative to CompletableFuture for long chains of synchronous callbacks.
+ *
+ * <p>Every thenApply() of a CompletableFuture allocates two objects, the new CompletableFuture and
+ * a Completion node which is pushed on the stack of dependents of the previous stage. Here every
+ * stage of map()/flatMap()/recover()/onComplete() is <b>one</b> object which is both the new
+ * promise and the continuation of the previous one, linked into the dependents of the previous
+ * stage through its own next field (no separate list nodes).
+ *
+ * <p>When a stage is added to a promise which is not complete yet, it is only linked in, and when
+ * the head of the chain completes, the whole chain (all the linked stages and their dependents)
+ * runs as a single continuation :- one loop on the completing thread, without recursion and without
+ * re-reading the chain, however many stages it has. When the promise is already complete the
+ * function is applied immediately on the calling thread, like CompletableFuture does.
+ *
+ * <p>Interoperates with CompletableFuture through {@link #from(CompletionStage)} and {@link
+ * #toCompletableFuture()}.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 14 : 20 : 31)
+ */
+public class Promise<T> {
+  /** Result of a promise completed with null. */
+  private static final Object NIL = new Object();
+
+  /** Marks the dependents of a completed promise as already taken (stack closed). */
+  private static final Stage<Object> CLOSED =
+      new Stage<Object>() {
+        @Override
+        boolean fire() {
+          // never linked as a dependent, it only marks a closed stack
+          return false;
+        }
+      };
+
+  @SuppressWarnings("unchecked")
+  private static final AtomicReferenceFieldUpdater<Promise<?>, Object> RESULT =
+      (AtomicReferenceFieldUpdater<Promise<?>, Object>)
+          (AtomicReferenceFieldUpdater<?, ?>)
+              AtomicReferenceFieldUpdater.newUpdater(Promise.class, Object.class, "result");
+
+  @SuppressWarnings("unchecked")
+  private static final AtomicReferenceFieldUpdater<Promise<?>, Stage<?>> STACK =
+      (AtomicReferenceFieldUpdater<Promise<?>, Stage<?>>)
+          (AtomicReferenceFieldUpdater<?, ?>)
+              AtomicReferenceFieldUpdater.newUpdater(Promise.class, Stage.class, "stack");
+
+  /** null while pending, then NIL, a Failure or the value. */
+  private volatile Object result;
+
+  /** Dependent stages, linked through their next field, or CLOSED once they have been run. */
+  private volatile Stage<?> stack;
+
+  public static <T> Promise<T> completed(T value) {
+    Promise<T> promise = new Promise<>();
+    promise.result = value == null ? NIL : value;
+    return promise;
+  }
+
+  public static <T> Promise<T> failed(Throwable throwable) {
+    Promise<T> promise = new Promise<>();
+    promise.result = new Failure(throwable);
+    return promise;
+  }
+
+  public static <T> Promise<T> supplyAsync(Supplier<? extends T> supplier, Executor executor) {
+    Promise<T> promise = new Promise<>();
+    executor.execute(
+        () -> {
+          try {
+            promise.complete(supplier.get());
+          } catch (Throwable throwable) {
+            promise.fail(throwable);
+          }
+        });
+    return promise;
+  }
+
+  /** Promise which completes the same way as the given stage. */
+  public static <T> Promise<T> from(CompletionStage<? extends T> stage) {
+    Promise<T> promise = new Promise<>();
+    stage.whenComplete(
+        (value, throwable) -> {
+          if (throwable != null) {
+            promise.fail(unwrap(throwable));
+          } else {
+            promise.complete(value);
+          }
+        });
+    return promise;
+  }
+
+  /** Completes the promise with the value, returns false if it was already complete. */
+  public boolean complete(T value) {
+    return completeWith(value == null ? NIL : value);
+  }
+
+  /** Completes the promise with the failure, returns false if it was already complete. */
+  public boolean fail(Throwable throwable) {
+    return completeWith(new Failure(throwable));
+  }
+
+  public boolean isDone() {
+    return result != null;
+  }
+
+  public boolean isFailed() {
+    return result instanceof Failure;
+  }
+
+  /** Transforms the value, a failure skips the function and is passed on as it is. */
+  public <R> Promise<R> map(Function<? super T, ? extends R> function) {
+    return link(new MapStage<>(this, function));
+  }
+
+  /** Transforms the value into another promise and completes with the result of that one. */
+  public <R> Promise<R> flatMap(Function<? super T, ? extends Promise<? extends R>> function) {
+    return link(new FlatMapStage<>(this, function));
+  }
+
+  /** Replaces a failure with a value, a successful result is passed on as it is. */
+  public Promise<T> recover(Function<? super Throwable, ? extends T> function) {
+    return link(new RecoverStage<>(this, function));
+  }
+
+  /** Calls the callback with either the value or the failure once complete. */
+  public Promise<T> onComplete(BiConsumer<? super T, ? super Throwable> callback) {
+    link(new CallbackStage<>(this, callback));
+    return this;
+  }
+
+  public CompletableFuture<T> toCompletableFuture() {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    onComplete(
+        (value, throwable) -> {
+          if (throwable != null) {
+            future.completeExceptionally(throwable);
+          } else {
+            future.complete(value);
+          }
+        });
+    return future;
+  }
+
+  /** Returns the value if complete, otherwise the given value. */
+  public T getNow(T valueIfAbsent) {
+    Object current = result;
+    return current == null ? valueIfAbsent : decode(current);
+  }
+
+  /**
+   * Waits for the result like CompletableFuture.join(), a failure is thrown wrapped in a
+   * CompletionException.
+   */
+  public T join() {
+    if (result == null) {
+      link(new Waiter());
+      boolean interrupted = false;
+      while (result == null) {
+        LockSupport.park(this);
+        // park() returns straight away while the interrupt flag is set, so clear it until done
+        if (Thread.interrupted()) {
+          interrupted = true;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return decode(result);
+  }
+
+  @Override
+  public String toString() {
+    Object current = result;
+    String state =
+        current == null
+            ? "pending"
+            : current instanceof Failure
+                ? "failed : " + ((Failure) current).throwable
+                : "completed : " + decode(current);
+    return "Promise[" + state + "]";
+  }
+
+  // ----------------------------------------------------------------------------------------------
+  // Dependent stages
+  // ----------------------------------------------------------------------------------------------
+
+  /** Links the stage into the dependents of its source, or runs it if the source is done. */
+  private <R> Stage<R> link(Stage<R> stage) {
+    if (!push(stage) && stage.fire()) {
+      Promise<?> completed = stage;
+      completed.postComplete();
+    }
+    return stage;
+  }
+
+  private boolean push(Stage<?> stage) {
+    while (result == null) {
+      Stage<?> head = stack;
+      if (head == CLOSED) {
+        return false;
+      }
+      stage.next = head;
+      if (STACK.compareAndSet(this, head, stage)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  boolean completeWith(Object encoded) {
+    if (!RESULT.compareAndSet(this, null, encoded)) {
+      return false;
+    }
+    postComplete();
+    return true;
+  }
+
+  /**
+   * Runs all the dependents of this promise, and the dependents of those which complete, in one
+   * loop. The dependents of a stage which completes are spliced in front of the remaining list
+   * instead of being run recursively.
+   */
+  private void postComplete() {
+    Stage<?> pending = takeStack(this);
+    while (pending != null) {
+      Stage<?> stage = pending;
+      pending = stage.next;
+      stage.next = null;
+      if (stage.fire()) {
+        Stage<?> dependents = takeStack(stage);
+        if (dependents != null) {
+          Stage<?> tail = dependents;
+          while (tail.next != null) {
+            tail = tail.next;
+          }
+          tail.next = pending;
+          pending = dependents;
+        }
+      }
+    }
+  }
+
+  private static Stage<?> takeStack(Promise<?> promise) {
+    Stage<?> taken = STACK.getAndSet(promise, CLOSED);
+    return taken == CLOSED ? null : taken;
+  }
+
+  Object rawResult() {
+    return result;
+  }
+
+  /** Completes this stage with the already encoded result of another promise, no allocation. */
+  boolean completeRaw(Object encoded) {
+    return RESULT.compareAndSet(this, null, encoded);
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> T decode(Object encoded) {
+    if (encoded == NIL) {
+      return null;
+    }
+    if (encoded instanceof Failure) {
+      throw new CompletionException(((Failure) encoded).throwable);
+    }
+    return (T) encoded;
+  }
+
+  static Object encode(Object value) {
+    return value == null ? NIL : value;
+  }
+
+  static Throwable unwrap(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
+
+  static final class Failure {
+    final Throwable throwable;
+
+    Failure(Throwable throwable) {
+      this.throwable = throwable;
+    }
+  }
+
+  /** A promise which is also the continuation of the promise it depends on. */
+  private abstract static class Stage<T> extends Promise<T> {
+    /** Next dependent in the stack of the promise this stage depends on. */
+    Stage<?> next;
+
+    /**
+     * Runs the stage once the promise it depends on is complete, called exactly once per source.
+     * Returns true if this stage completed itself, i.e. its own dependents have to run now.
+     */
+    abstract boolean fire();
+  }
+
+  private static final class MapStage<T, R> extends Stage<R> {
+    private Promise<T> source;
+    private Function<? super T, ? extends R> function;
+
+    MapStage(Promise<T> source, Function<? super T, ? extends R> function) {
+      this.source = source;
+      this.function = function;
+    }
+
+    @Override
+    boolean fire() {
+      Object input = source.rawResult();
+      Object output;
+      if (input instanceof Failure) {
+        output = input;
+      } else {
+        try {
+          output = encode(function.apply(Promise.<T>decode(input)));
+        } catch (Throwable throwable) {
+          output = new Failure(throwable);
+        }
+      }
+      source = null;
+      function = null;
+      return completeRaw(output);
+    }
+  }
+
+  /** Fires twice :- first when its source completes, then when the inner promise completes. */
+  private static final class FlatMapStage<T, R> extends Stage<R> {
+    private Promise<?> source;
+    private Function<? super T, ? extends Promise<? extends R>> function;
+
+    FlatMapStage(Promise<T> source, Function<? super T, ? extends Promise<? extends R>> function) {
+      this.source = source;
+      this.function = function;
+    }
+
+    @Override
+    boolean fire() {
+      Object input = source.rawResult();
+      if (function == null || input instanceof Failure) {
+        source = null;
+        return completeRaw(input);
+      }
+      Promise<? extends R> inner;
+      try {
+        inner = Objects.requireNonNull(function.apply(Promise.<T>decode(input)));
+      } catch (Throwable throwable) {
+        source = null;
+        function = null;
+        return completeRaw(new Failure(throwable));
+      }
+      function = null;
+      source = inner;
+      // wait for the inner promise by linking this same object into its dependents
+      return !inner.push(this) && fire();
+    }
+  }
+
+  private static final class RecoverStage<T> extends Stage<T> {
+    private Promise<T> source;
+    private Function<? super Throwable, ? extends T> function;
+
+    RecoverStage(Promise<T> source, Function<? super Throwable, ? extends T> function) {
+      this.source = source;
+      this.function = function;
+    }
+
+    @Override
+    boolean fire() {
+      Object output = source.rawResult();
+      if (output instanceof Failure) {
+        try {
+          output = encode(function.apply(((Failure) output).throwable));
+        } catch (Throwable throwable) {
+          output = new Failure(throwable);
+        }
+      }
+      source = null;
+      function = null;
+      return completeRaw(output);
+    }
+  }
+
+  private static final class CallbackStage<T> extends Stage<Void> {
+    private final Promise<T> source;
+    private final BiConsumer<? super T, ? super Throwable> callback;
+
+    CallbackStage(Promise<T> source, BiConsumer<? super T, ? super Throwable> callback) {
+      this.source = source;
+      this.callback = callback;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    boolean fire() {
+      Object input = source.rawResult();
+      try {
+        if (input instanceof Failure) {
+          callback.accept(null, ((Failure) input).throwable);
+        } else {
+          callback.accept(input == NIL ? null : (T) input, null);
+        }
+      } catch (Throwable throwable) {
+        // nobody observes a callback, report it without stopping the rest of the chain
+        Thread current = Thread.currentThread();
+        current.getUncaughtExceptionHandler().uncaughtException(current, throwable);
+      }
+      return false;
+    }
+  }
+
+  private static final class Waiter extends Stage<Void> {
+    private final Thread thread = Thread.currentThread();
+
+    @Override
+    boolean fire() {
+      LockSupport.unpark(thread);
+      return false;
+    }
+  }
+}
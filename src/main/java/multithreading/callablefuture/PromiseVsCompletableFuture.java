@@ -0,0 +1,84 @@
+package multithreading.callablefuture;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Compares a chain of thenApply() callbacks on a CompletableFuture with the same chain of map()
+ * callbacks on a {@link Promise} :- the chain is built while the first future is still pending
+ * (like a request path waiting for a remote call) and then the first future is completed.
+ *
+ * <p>Prints the time and the bytes allocated per chain. Allocations are read from the HotSpot
+ * specific com.sun.management.ThreadMXBean, on other JVMs only the time is printed.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 14 : 20 : 31)
+ */
+public class PromiseVsCompletableFuture {
+  private static final int STAGES = 15;
+  private static final int CHAINS = 1_000_000;
+  private static final int ROUNDS = 5;
+
+  private static final Function<Integer, Integer> INCREMENT = i -> i + 1;
+
+  public static void main(String[] args) {
+    System.out.println("Chains of " + STAGES + " stages, " + CHAINS + " chains per round\n");
+    long checksum = 0;
+    for (int round = 1; round <= ROUNDS; round++) {
+      // the first rounds are the warm up for the JIT compiler
+      System.out.println("****Round " + round + "****");
+
+      long bytes = allocatedBytes();
+      long start = System.nanoTime();
+      for (int i = 0; i < CHAINS; i++) {
+        checksum += completableFutureChain(i);
+      }
+      print("CompletableFuture", System.nanoTime() - start, bytes, allocatedBytes());
+
+      bytes = allocatedBytes();
+      start = System.nanoTime();
+      for (int i = 0; i < CHAINS; i++) {
+        checksum += promiseChain(i);
+      }
+      print("Promise", System.nanoTime() - start, bytes, allocatedBytes());
+    }
+    System.out.println("\nChecksum : " + checksum);
+  }
+
+  private static int completableFutureChain(int value) {
+    CompletableFuture<Integer> head = new CompletableFuture<>();
+    CompletableFuture<Integer> tail = head;
+    for (int stage = 0; stage < STAGES; stage++) {
+      tail = tail.thenApply(INCREMENT);
+    }
+    head.complete(value);
+    return tail.join();
+  }
+
+  private static int promiseChain(int value) {
+    Promise<Integer> head = new Promise<>();
+    Promise<Integer> tail = head;
+    for (int stage = 0; stage < STAGES; stage++) {
+      tail = tail.map(INCREMENT);
+    }
+    head.complete(value);
+    return tail.join();
+  }
+
+  private static void print(String name, long nanos, long bytesBefore, long bytesAfter) {
+    // -1 means the JVM can't tell the allocated bytes
+    String allocation =
+        bytesBefore < 0 ? "" : ", " + (bytesAfter - bytesBefore) / CHAINS + " bytes/chain";
+    System.out.println(name + " : " + nanos / CHAINS + " ns/chain" + allocation);
+  }
+
+  private static long allocatedBytes() {
+    java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) threadMXBean)
+          .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,392 @@
+package multithreading.callablefuture;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Structured concurrency :- the subtasks forked into a scope never outlive it.
+ *
+ * <p>With plain Futures every submitted task lives on its own, when one task of a fan-out fails the
+ * others keep running (and keep using CPU and the downstream services) for a result nobody will
+ * look at. Here the owner thread forks Callables into the scope, join()s them and close()s the
+ * scope :-
+ *
+ * <p><b>1. Shutdown</b> :- shutdown() cancels (interrupts) every unfinished subtask at once and
+ * wakes up join(). The policies call it themselves, {@link ShutdownOnFailure} on the first failure
+ * and {@link ShutdownOnSuccess} on the first success.
+ *
+ * <p><b>2. One deadline</b> :- the scope has a single {@link Deadline} (never later than the
+ * current deadline of the owner), when it passes join() shuts the scope down and throws a
+ * TimeoutException. The subtasks run with it as their current deadline, so what they submit through
+ * {@link DeadlineService} or fork into nested scopes shares the same budget.
+ *
+ * <p><b>3. Close</b> :- close() shuts the scope down and waits until no subtask is running any
+ * more, so no work of the scope is left behind, use it with try-with-resources.
+ *
+ * <p>The subtasks run on the given executor, the scope doesn't own it.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 16 : 58 : 44)
+ */
+public class TaskScope<T> implements AutoCloseable {
+  private final Executor executor;
+  private final Deadline deadline;
+  private final Thread owner = Thread.currentThread();
+  private final Set<ForkedTask<?>> unfinished = ConcurrentHashMap.newKeySet();
+  private final Object lock = new Object();
+  private volatile boolean shutdown;
+
+  /** A scope with the current deadline of the owner thread, if it has one. */
+  public TaskScope(Executor executor) {
+    this(executor, null);
+  }
+
+  /** A scope which has to finish by the deadline, or by the current deadline if that is earlier. */
+  public TaskScope(Executor executor, Deadline deadline) {
+    this.executor = executor;
+    this.deadline = Deadline.earliest(deadline, Deadline.current());
+  }
+
+  /**
+   * Starts the task in the scope. The returned subtask gets its result once the task completes,
+   * unless the scope was shut down meanwhile. Forking into a shut down scope doesn't start the
+   * task.
+   */
+  public <U extends T> Subtask<U> fork(Callable<? extends U> task) {
+    Subtask<U> subtask = new Subtask<>();
+    if (shutdown) {
+      return subtask;
+    }
+    ForkedTask<U> forked = new ForkedTask<>(task, subtask);
+    unfinished.add(forked);
+    try {
+      executor.execute(forked);
+    } catch (RejectedExecutionException e) {
+      finished(forked);
+      throw e;
+    }
+    if (shutdown) {
+      forked.cancel();
+    }
+    return subtask;
+  }
+
+  /**
+   * Waits until every subtask has completed or the scope is shut down.
+   *
+   * @throws TimeoutException when the deadline passes first, the scope is shut down then
+   */
+  public TaskScope<T> join() throws InterruptedException, TimeoutException {
+    ensureOwner();
+    synchronized (lock) {
+      while (!unfinished.isEmpty() && !shutdown) {
+        if (deadline == null) {
+          lock.wait();
+          continue;
+        }
+        long remaining = deadline.remaining(TimeUnit.NANOSECONDS);
+        if (remaining <= 0) {
+          break;
+        }
+        TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+      }
+    }
+    int left = unfinished.size();
+    if (left > 0 && !shutdown) {
+      shutdown();
+      throw new TimeoutException("Deadline passed with " + left + " subtasks left");
+    }
+    return this;
+  }
+
+  /**
+   * Cancels every unfinished subtask (interrupting the running ones) and makes join() return. The
+   * subtasks completing from now on don't set their result. Can be called by any thread.
+   */
+  public void shutdown() {
+    shutdown = true;
+    for (ForkedTask<?> forked : unfinished) {
+      forked.cancel();
+    }
+    synchronized (lock) {
+      lock.notifyAll();
+    }
+  }
+
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  public Deadline getDeadline() {
+    return deadline;
+  }
+
+  /** Shuts the scope down and waits until none of its subtasks is running any more. */
+  @Override
+  public void close() {
+    ensureOwner();
+    shutdown();
+    boolean interrupted = false;
+    synchronized (lock) {
+      while (!unfinished.isEmpty()) {
+        try {
+          lock.wait();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Called by the thread of every subtask which completes while the scope isn't shut down, the
+   * policies override it to shut the scope down.
+   */
+  protected void handleComplete(Subtask<? extends T> subtask) {}
+
+  private void ensureOwner() {
+    if (Thread.currentThread() != owner) {
+      throw new IllegalStateException(
+          "Only the thread which created the scope can join or close it");
+    }
+  }
+
+  private void finished(ForkedTask<?> forked) {
+    if (unfinished.remove(forked)) {
+      synchronized (lock) {
+        lock.notifyAll();
+      }
+    }
+  }
+
+  /** Result of a forked task. */
+  public static final class Subtask<U> implements Supplier<U> {
+    public enum State {
+      /** Not completed yet, or completed after the scope was shut down. */
+      UNAVAILABLE,
+      SUCCESS,
+      FAILED
+    }
+
+    private volatile State state = State.UNAVAILABLE;
+    private U result;
+    private Throwable exception;
+
+    public State state() {
+      return state;
+    }
+
+    /** Result of a successful subtask. */
+    @Override
+    public U get() {
+      if (state != State.SUCCESS) {
+        throw new IllegalStateException("Subtask is " + state);
+      }
+      return result;
+    }
+
+    /** Exception of a failed subtask. */
+    public Throwable exception() {
+      if (state != State.FAILED) {
+        throw new IllegalStateException("Subtask is " + state);
+      }
+      return exception;
+    }
+
+    void succeeded(U value) {
+      result = value;
+      state = State.SUCCESS;
+    }
+
+    void failed(Throwable throwable) {
+      exception = throwable;
+      state = State.FAILED;
+    }
+  }
+
+  /**
+   * The Runnable handed to the executor. It is finished exactly once :- by the thread running it
+   * when it completes, or by cancel() when it hasn't started yet. A running task is interrupted
+   * only while it runs, never after, so the interrupt can't hit the next task of the pool thread.
+   */
+  private final class ForkedTask<U extends T> implements Runnable {
+    private final Callable<? extends U> task;
+    private final Subtask<U> subtask;
+    private Thread runner;
+    private boolean started;
+    private boolean interrupted;
+    private boolean done;
+
+    ForkedTask(Callable<? extends U> task, Subtask<U> subtask) {
+      this.task = task;
+      this.subtask = subtask;
+    }
+
+    @Override
+    public void run() {
+      synchronized (this) {
+        if (done) {
+          return;
+        }
+        started = true;
+        runner = Thread.currentThread();
+      }
+      Deadline previous = deadline == null ? null : deadline.enter();
+      try {
+        U value = task.call();
+        if (!shutdown) {
+          subtask.succeeded(value);
+          handleComplete(subtask);
+        }
+      } catch (Throwable throwable) {
+        if (!shutdown) {
+          subtask.failed(throwable);
+          handleComplete(subtask);
+        }
+      } finally {
+        if (deadline != null) {
+          Deadline.restore(previous);
+        }
+        boolean clearInterrupt;
+        synchronized (this) {
+          runner = null;
+          done = true;
+          clearInterrupt = interrupted;
+        }
+        if (clearInterrupt) {
+          // the interrupt of a cancel() racing with the completion isn't for the next task
+          Thread.interrupted();
+        }
+        finished(this);
+      }
+    }
+
+    void cancel() {
+      boolean finishNow;
+      synchronized (this) {
+        if (done) {
+          return;
+        }
+        if (started) {
+          // a subtask shutting down its own scope doesn't interrupt itself
+          if (runner != Thread.currentThread()) {
+            interrupted = true;
+            runner.interrupt();
+          }
+          finishNow = false;
+        } else {
+          done = true;
+          finishNow = true;
+        }
+      }
+      if (finishNow) {
+        finished(this);
+      }
+    }
+  }
+
+  /**
+   * Shuts the scope down as soon as a subtask fails, i.e. either every subtask succeeds or none of
+   * the remaining ones keeps running.
+   */
+  public static class ShutdownOnFailure extends TaskScope<Object> {
+    private final AtomicReference<Throwable> firstException = new AtomicReference<>();
+
+    public ShutdownOnFailure(Executor executor) {
+      super(executor);
+    }
+
+    public ShutdownOnFailure(Executor executor, Deadline deadline) {
+      super(executor, deadline);
+    }
+
+    @Override
+    public ShutdownOnFailure join() throws InterruptedException, TimeoutException {
+      super.join();
+      return this;
+    }
+
+    @Override
+    protected void handleComplete(Subtask<?> subtask) {
+      if (subtask.state() == Subtask.State.FAILED
+          && firstException.compareAndSet(null, subtask.exception())) {
+        shutdown();
+      }
+    }
+
+    /** Exception of the first failed subtask, or null. */
+    public Throwable exception() {
+      return firstException.get();
+    }
+
+    /** Throws an ExecutionException with the exception of the first failed subtask, if any. */
+    public void throwIfFailed() throws ExecutionException {
+      Throwable exception = firstException.get();
+      if (exception != null) {
+        throw new ExecutionException(exception);
+      }
+    }
+  }
+
+  /**
+   * Shuts the scope down as soon as a subtask succeeds, e.g. to ask several replicas and take the
+   * first answer.
+   */
+  public static class ShutdownOnSuccess<T> extends TaskScope<T> {
+    private final AtomicReference<Subtask<? extends T>> firstSuccess = new AtomicReference<>();
+    private final AtomicReference<Throwable> firstException = new AtomicReference<>();
+
+    public ShutdownOnSuccess(Executor executor) {
+      super(executor);
+    }
+
+    public ShutdownOnSuccess(Executor executor, Deadline deadline) {
+      super(executor, deadline);
+    }
+
+    @Override
+    public ShutdownOnSuccess<T> join() throws InterruptedException, TimeoutException {
+      super.join();
+      return this;
+    }
+
+    @Override
+    protected void handleComplete(Subtask<? extends T> subtask) {
+      if (subtask.state() == Subtask.State.SUCCESS) {
+        if (firstSuccess.compareAndSet(null, subtask)) {
+          shutdown();
+        }
+      } else {
+        firstException.compareAndSet(null, subtask.exception());
+      }
+    }
+
+    /**
+     * Result of the first successful subtask.
+     *
+     * @throws ExecutionException with the exception of the first failed subtask when none succeeded
+     */
+    public T result() throws ExecutionException {
+      Subtask<? extends T> success = firstSuccess.get();
+      if (success != null) {
+        return success.get();
+      }
+      Throwable exception = firstException.get();
+      if (exception != null) {
+        throw new ExecutionException(exception);
+      }
+      throw new IllegalStateException("No subtask completed");
+    }
+  }
+}
@@ -0,0 +1,462 @@
+package multithreading.collection;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * Lock free hash map with primitive long keys, in the style of Cliff Click's non blocking hash map.
+ *
+ * <p>A ConcurrentHashMap&lt;Long, V&gt; keeps a node object (key, value, hash, next) and a boxed
+ * Long per entry, i.e. about 50 bytes on top of the value. Here the table is just two arrays, the
+ * keys in a long[] and the values in an Object[] at the same index (<b>open addressing</b> with
+ * linear probing), so an entry costs its two slots.
+ *
+ * <p><b>Reads</b> never lock :- find the key, read the value next to it. Only during a resize, a
+ * read which meets a slot being copied helps copy that slot (a few CASes) and reads it in the new
+ * table.
+ *
+ * <p><b>Writes</b> are CASes :- a new key claims an empty key slot with a CAS, after that the key
+ * stays in its slot forever (a removed entry only gets a TOMBSTONE value), and the value is
+ * replaced with a CAS on the value slot. So a write either succeeds or sees the value which beat
+ * it.
+ *
+ * <p><b>Cooperative resizing</b> :- when the table is half full a bigger table is attached as next
+ * and the entries are copied over bit by bit, every writer copies a chunk of slots before its own
+ * write, so no thread has to copy the whole table at once. Before a slot is copied its value is
+ * boxed in a Prime, after which no write succeeds on it in the old table, writers and readers which
+ * see a Prime help to copy that slot and continue in the new table. When every slot is copied the
+ * new table replaces the old one.
+ *
+ * <p>Null values are not allowed. Key 0 marks an empty key slot, so the value of key 0 is kept
+ * aside.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 19 : 27 : 44)
+ */
+public class ConcurrentLongHashMap<V> {
+  private static final int MINIMUM_CAPACITY = 16;
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  /** Slots copied by a writer before its own write. */
+  private static final int COPY_CHUNK = 1024;
+
+  private static final long NO_KEY = 0;
+
+  /** Expected values of putIfMatch() :- whatever the old value is, or any present value. */
+  private static final Object NO_MATCH_OLD = new Object();
+
+  private static final Object MATCH_ANY = new Object();
+
+  /** Value of a removed entry, as expected value it means "absent". */
+  private static final Object TOMBSTONE = new Object();
+
+  /** A slot copied to the new table (or empty when the copy started). */
+  private static final Prime TOMBPRIME = new Prime(TOMBSTONE);
+
+  private final AtomicReference<Table> root;
+  private final AtomicReference<Object> zeroKeyValue = new AtomicReference<>();
+  private final LongAdder size = new LongAdder();
+
+  public ConcurrentLongHashMap() {
+    this(MINIMUM_CAPACITY);
+  }
+
+  /**
+   * @param initialCapacity number of entries which fit without resizing
+   */
+  public ConcurrentLongHashMap(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("initialCapacity must not be negative");
+    }
+    root = new AtomicReference<>(new Table(tableSizeFor((long) initialCapacity * 2)));
+  }
+
+  public V get(long key) {
+    Object value = key == NO_KEY ? zeroKeyValue.get() : get(root.get(), key, hash(key));
+    return value == TOMBSTONE ? null : cast(value);
+  }
+
+  public boolean containsKey(long key) {
+    return get(key) != null;
+  }
+
+  /**
+   * @return the previous value, or null
+   */
+  public V put(long key, V value) {
+    return write(key, Objects.requireNonNull(value), NO_MATCH_OLD);
+  }
+
+  /**
+   * @return the current value if there is one (and nothing changed), otherwise null
+   */
+  public V putIfAbsent(long key, V value) {
+    return write(key, Objects.requireNonNull(value), TOMBSTONE);
+  }
+
+  /**
+   * @return the previous value, or null
+   */
+  public V remove(long key) {
+    return write(key, TOMBSTONE, NO_MATCH_OLD);
+  }
+
+  /** Removes the entry only if its value equals the given one. */
+  public boolean remove(long key, Object value) {
+    return value != null && value.equals(write(key, TOMBSTONE, value));
+  }
+
+  /** Replaces the value only if there is one, returns it. */
+  public V replace(long key, V value) {
+    return write(key, Objects.requireNonNull(value), MATCH_ANY);
+  }
+
+  /** Replaces the value only if it equals oldValue. */
+  public boolean replace(long key, V oldValue, V newValue) {
+    Objects.requireNonNull(newValue);
+    return oldValue != null && oldValue.equals(write(key, newValue, oldValue));
+  }
+
+  /**
+   * Returns the value of the key, creating it first if there is none. Unlike ConcurrentHashMap the
+   * function isn't called under a lock, threads racing for the same absent key may all call it but
+   * only one of the values is kept and returned to all of them.
+   */
+  public V computeIfAbsent(long key, LongFunction<? extends V> function) {
+    V value = get(key);
+    if (value != null) {
+      return value;
+    }
+    V created = function.apply(key);
+    if (created == null) {
+      return null;
+    }
+    V previous = putIfAbsent(key, created);
+    return previous != null ? previous : created;
+  }
+
+  public long size() {
+    return Math.max(0, size.sum());
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /** Removes the entries one by one, entries added meanwhile may stay. */
+  public void clear() {
+    forEach((key, value) -> remove(key));
+  }
+
+  /**
+   * Calls the action for every entry. Like the iterators of ConcurrentHashMap it is weakly
+   * consistent :- it never fails because of concurrent writes and may or may not see them. During a
+   * resize an entry copied to the new table while the old one is walked may be seen twice.
+   */
+  public void forEach(EntryConsumer<? super V> action) {
+    Object zero = zeroKeyValue.get();
+    if (zero != null && zero != TOMBSTONE) {
+      action.accept(NO_KEY, cast(zero));
+    }
+    for (Table table = root.get(); table != null; table = table.next) {
+      for (int i = 0; i < table.length; i++) {
+        long key = table.keys.get(i);
+        Object value = table.values.get(i);
+        // a Prime is (or will be) in the next table
+        if (key != NO_KEY && value != null && value != TOMBSTONE && !(value instanceof Prime)) {
+          action.accept(key, cast(value));
+        }
+      }
+    }
+  }
+
+  @FunctionalInterface
+  public interface EntryConsumer<V> {
+    void accept(long key, V value);
+  }
+
+  private V write(long key, Object put, Object expected) {
+    helpCopy();
+    Object old =
+        key == NO_KEY
+            ? writeZeroKey(put, expected)
+            : putIfMatch(root.get(), key, hash(key), put, expected);
+    boolean wasPresent = old != null && old != TOMBSTONE;
+    if (matches(old, expected)) {
+      if (!wasPresent && put != TOMBSTONE) {
+        size.increment();
+      } else if (wasPresent && put == TOMBSTONE) {
+        size.decrement();
+      }
+    }
+    return wasPresent ? cast(old) : null;
+  }
+
+  private Object writeZeroKey(Object put, Object expected) {
+    while (true) {
+      Object value = zeroKeyValue.get();
+      if (!matches(value, expected) || zeroKeyValue.compareAndSet(value, put)) {
+        return value;
+      }
+    }
+  }
+
+  private Object get(Table table, long key, int hash) {
+    search:
+    while (true) {
+      int mask = table.length - 1;
+      int index = hash & mask;
+      for (int reprobes = 0; ; reprobes++) {
+        long slotKey = table.keys.get(index);
+        if (slotKey == NO_KEY) {
+          return null;
+        }
+        if (slotKey == key) {
+          Object value = table.values.get(index);
+          if (!(value instanceof Prime)) {
+            return value;
+          }
+          table = copySlotAndGetNext(table, index);
+          continue search;
+        }
+        if (reprobes >= table.reprobeLimit) {
+          // a key which didn't find a free slot nearby went to the next table
+          table = table.next;
+          if (table == null) {
+            return null;
+          }
+          continue search;
+        }
+        index = (index + 1) & mask;
+      }
+    }
+  }
+
+  /**
+   * Writes put (TOMBSTONE to remove) if the current value matches expected, in this table or the
+   * one the key moved to.
+   *
+   * @param expected NO_MATCH_OLD, MATCH_ANY, TOMBSTONE for absent, null for a slot never written
+   *     (used by the copy) or the value to replace
+   * @return the value before the write, the write happened if it matches expected
+   */
+  private Object putIfMatch(Table table, long key, int hash, Object put, Object expected) {
+    write:
+    while (true) {
+      int mask = table.length - 1;
+      int index = hash & mask;
+      for (int reprobes = 0; ; reprobes++) {
+        long slotKey = table.keys.get(index);
+        if (slotKey == NO_KEY) {
+          if (put == TOMBSTONE) {
+            return null;
+          }
+          if (table.keys.compareAndSet(index, NO_KEY, key)) {
+            if (table.slots.incrementAndGet() >= table.threshold) {
+              resize(table);
+            }
+            break;
+          }
+          slotKey = table.keys.get(index);
+        }
+        if (slotKey == key) {
+          break;
+        }
+        if (reprobes >= table.reprobeLimit) {
+          table = resize(table);
+          continue write;
+        }
+        index = (index + 1) & mask;
+      }
+
+      if (table.next != null) {
+        // the old table is being copied, writes go to the new one
+        table = copySlotAndGetNext(table, index);
+        continue;
+      }
+      while (true) {
+        Object value = table.values.get(index);
+        if (value instanceof Prime) {
+          table = copySlotAndGetNext(table, index);
+          continue write;
+        }
+        if (!matches(value, expected)) {
+          return value;
+        }
+        if (put == TOMBSTONE && (value == null || value == TOMBSTONE)) {
+          return value;
+        }
+        if (table.values.compareAndSet(index, value, put)) {
+          return value;
+        }
+      }
+    }
+  }
+
+  private static boolean matches(Object value, Object expected) {
+    if (expected == NO_MATCH_OLD) {
+      return true;
+    }
+    if (expected == null) {
+      return value == null;
+    }
+    boolean present = value != null && value != TOMBSTONE;
+    if (expected == TOMBSTONE) {
+      return !present;
+    }
+    if (expected == MATCH_ANY) {
+      return present;
+    }
+    return present && (value == expected || expected.equals(value));
+  }
+
+  /** Attaches a new table to this one if there is none yet, returns the new table. */
+  private Table resize(Table table) {
+    Table next = table.next;
+    if (next != null) {
+      return next;
+    }
+    long live = size.sum();
+    long length = table.length;
+    // mostly removed entries :- same size, the copy drops the tombstones
+    if (live >= length >> 2) {
+      length <<= 1;
+    }
+    if (live >= length >> 2) {
+      length <<= 1;
+    }
+    if (length > MAXIMUM_CAPACITY) {
+      if (table.length == MAXIMUM_CAPACITY && live >= MAXIMUM_CAPACITY >> 1) {
+        throw new IllegalStateException("ConcurrentLongHashMap is full");
+      }
+      length = MAXIMUM_CAPACITY;
+    }
+    Table candidate = new Table((int) length);
+    return Table.NEXT.compareAndSet(table, null, candidate) ? candidate : table.next;
+  }
+
+  /** Copies a chunk of the top level table, then replaces it with its copy when it is complete. */
+  private void helpCopy() {
+    Table top = root.get();
+    if (top.next == null) {
+      return;
+    }
+    int mask = top.length - 1;
+    int chunk = Math.min(COPY_CHUNK, top.length);
+    // wraps around, so slots left by a stalled thread are copied by the next ones
+    int from = (int) (top.copyIndex.getAndAdd(chunk) & mask);
+    int copied = 0;
+    for (int i = 0; i < chunk; i++) {
+      if (copySlot(top, (from + i) & mask)) {
+        copied++;
+      }
+    }
+    addCopied(top, copied);
+  }
+
+  private Table copySlotAndGetNext(Table table, int index) {
+    addCopied(table, copySlot(table, index) ? 1 : 0);
+    return table.next;
+  }
+
+  private void addCopied(Table table, int copied) {
+    int done = copied == 0 ? table.copyDone.get() : table.copyDone.addAndGet(copied);
+    if (done == table.length) {
+      root.compareAndSet(table, table.next);
+    }
+  }
+
+  /**
+   * Copies the slot to the next table.
+   *
+   * @return true if this thread finished the slot, so every slot is counted once
+   */
+  private boolean copySlot(Table table, int index) {
+    Object value = table.values.get(index);
+    // boxes the value, no write succeeds on the slot after that
+    while (!(value instanceof Prime)) {
+      boolean absent = value == null || value == TOMBSTONE;
+      Prime box = absent ? TOMBPRIME : new Prime(value);
+      if (table.values.compareAndSet(index, value, box)) {
+        if (absent) {
+          return true;
+        }
+        value = box;
+        break;
+      }
+      value = table.values.get(index);
+    }
+    if (value == TOMBPRIME) {
+      return false;
+    }
+    long key = table.keys.get(index);
+    // only into a slot never written, a later write (or removal) in the new table wins
+    putIfMatch(table.next, key, hash(key), ((Prime) value).value, null);
+    return table.values.compareAndSet(index, value, TOMBPRIME);
+  }
+
+  private static int hash(long key) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  private static int tableSizeFor(long capacity) {
+    if (capacity >= MAXIMUM_CAPACITY) {
+      return MAXIMUM_CAPACITY;
+    }
+    int size = MINIMUM_CAPACITY;
+    while (size < capacity) {
+      size <<= 1;
+    }
+    return size;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> V cast(Object value) {
+    return (V) value;
+  }
+
+  /** A value being copied to the next table. */
+  private static final class Prime {
+    final Object value;
+
+    Prime(Object value) {
+      this.value = value;
+    }
+  }
+
+  private static final class Table {
+    static final AtomicReferenceFieldUpdater<Table, Table> NEXT =
+        AtomicReferenceFieldUpdater.newUpdater(Table.class, Table.class, "next");
+
+    final int length;
+    final AtomicLongArray keys;
+    final AtomicReferenceArray<Object> values;
+
+    /** Probes before a key gives up on this table, it then goes to the next one. */
+    final int reprobeLimit;
+
+    /** Key slots claimed (removed entries included) which start a resize. */
+    final int threshold;
+
+    final AtomicInteger slots = new AtomicInteger();
+    final AtomicLong copyIndex = new AtomicLong();
+    final AtomicInteger copyDone = new AtomicInteger();
+    volatile Table next;
+
+    Table(int length) {
+      this.length = length;
+      this.keys = new AtomicLongArray(length);
+      this.values = new AtomicReferenceArray<>(length);
+      this.reprobeLimit = 10 + (length >> 2);
+      this.threshold = length >> 1;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package multithreading.collection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the k largest elements offered by many threads, e.g. the slowest requests or the hottest
+ * keys of a stream.
+ *
+ * <p>The elements are kept in a {@link RelaxedPriorityQueue} with the smallest of the k first. Once
+ * it is full an element which isn't larger than that one is rejected by just reading it, which is
+ * what happens to almost every element of a long stream, and no thread writes anything. A larger
+ * element is added and the smallest one is removed with the strict pollFirst(), so while threads
+ * are adding it may hold a few more than k elements for a moment.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 19 : 58 : 12)
+ */
+public class ConcurrentTopK<E> {
+  private final int k;
+  private final Comparator<? super E> comparator;
+  private final RelaxedPriorityQueue<E> queue;
+  private final AtomicInteger size = new AtomicInteger();
+
+  /** Natural ordering. */
+  @SuppressWarnings("unchecked")
+  public ConcurrentTopK(int k) {
+    this(k, (Comparator<? super E>) Comparator.naturalOrder());
+  }
+
+  public ConcurrentTopK(int k, Comparator<? super E> comparator) {
+    if (k <= 0) {
+      throw new IllegalArgumentException("k must be positive");
+    }
+    this.k = k;
+    this.comparator = Objects.requireNonNull(comparator);
+    this.queue = new RelaxedPriorityQueue<>(comparator, 1);
+  }
+
+  /**
+   * @return false if the element was rejected, i.e. k larger ones were there already
+   */
+  public boolean offer(E element) {
+    Objects.requireNonNull(element);
+    if (size.get() >= k) {
+      E smallest = queue.peek();
+      if (smallest != null && comparator.compare(element, smallest) <= 0) {
+        return false;
+      }
+    }
+    queue.offer(element);
+    if (size.incrementAndGet() > k) {
+      queue.pollFirst();
+      size.decrementAndGet();
+    }
+    return true;
+  }
+
+  /** The smallest element an offer() has to beat, or null while there are fewer than k. */
+  public E threshold() {
+    return size.get() >= k ? queue.peek() : null;
+  }
+
+  /** The current top k, largest first. */
+  public List<E> snapshot() {
+    List<E> elements = queue.toList();
+    // ascending, the extra ones of offer()s in progress are at the front
+    List<E> top =
+        new ArrayList<>(elements.subList(Math.max(0, elements.size() - k), elements.size()));
+    Collections.reverse(top);
+    return top;
+  }
+}
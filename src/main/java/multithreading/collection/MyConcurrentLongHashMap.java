@@ -0,0 +1,109 @@
+package multithreading.collection;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 4 threads write a {@link ConcurrentLongHashMap} at the same time while it grows from 16 slots to
+ * millions, then the heap it takes is compared with a ConcurrentHashMap&lt;Long, String&gt; of the
+ * same entries.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 19 : 27 : 44)
+ */
+public class MyConcurrentLongHashMap {
+  private static final int THREADS = 4;
+  private static final int KEYS_PER_THREAD = 500_000;
+  private static final int ENTRIES = 2_000_000;
+  private static final String VALUE = "value";
+
+  public static void main(String[] args) throws InterruptedException {
+    concurrentWrites();
+    footprint();
+  }
+
+  private static void concurrentWrites() throws InterruptedException {
+    System.out.println("****Concurrent writes while resizing****\n");
+    ConcurrentLongHashMap<Long> map = new ConcurrentLongHashMap<>();
+    Thread[] writers = new Thread[THREADS];
+    long start = System.nanoTime();
+    for (int t = 0; t < THREADS; t++) {
+      int thread = t;
+      writers[t] =
+          new Thread(
+              () -> {
+                // interleaved keys, so the threads keep writing into the same regions
+                for (long i = 0; i < KEYS_PER_THREAD; i++) {
+                  long key = i * THREADS + thread;
+                  map.put(key, key);
+                  if (key % 3 == 0) {
+                    map.remove(key);
+                  }
+                }
+              });
+      writers[t].start();
+    }
+    for (Thread writer : writers) {
+      writer.join();
+    }
+    long elapsed = System.nanoTime() - start;
+
+    long expected = 0;
+    boolean consistent = true;
+    for (long key = 0; key < (long) THREADS * KEYS_PER_THREAD; key++) {
+      Long value = map.get(key);
+      if (key % 3 == 0) {
+        consistent &= value == null;
+      } else {
+        consistent &= value != null && value == key;
+        expected++;
+      }
+    }
+    System.out.println(
+        "Size "
+            + map.size()
+            + " (expected "
+            + expected
+            + "), every value correct : "
+            + consistent
+            + ", in "
+            + TimeUnit.NANOSECONDS.toMillis(elapsed)
+            + " ms");
+  }
+
+  private static void footprint() throws InterruptedException {
+    System.out.println("\n****Heap for " + ENTRIES + " entries****\n");
+    long before = usedHeap();
+    ConcurrentLongHashMap<String> longMap = new ConcurrentLongHashMap<>();
+    for (long key = 1; key <= ENTRIES; key++) {
+      longMap.put(key, VALUE);
+    }
+    print("ConcurrentLongHashMap", usedHeap() - before);
+
+    before = usedHeap();
+    Map<Long, String> boxedMap = new ConcurrentHashMap<>();
+    for (long key = 1; key <= ENTRIES; key++) {
+      boxedMap.put(key, VALUE);
+    }
+    print("ConcurrentHashMap<Long, String>", usedHeap() - before);
+
+    // keeps both maps reachable until both are measured
+    System.out.println("\n" + longMap.size() + " and " + boxedMap.size() + " entries");
+  }
+
+  private static void print(String name, long bytes) {
+    System.out.printf(
+        "%-32s : %5.1f MB, %5.1f bytes per entry%n",
+        name, bytes / 1024.0 / 1024.0, (double) bytes / ENTRIES);
+  }
+
+  private static long usedHeap() throws InterruptedException {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+      TimeUnit.MILLISECONDS.sleep(100);
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
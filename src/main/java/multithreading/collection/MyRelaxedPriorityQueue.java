@@ -0,0 +1,114 @@
+package multithreading.collection;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A scheduler like work queue :- 4 threads each add a task with a random deadline and take the most
+ * urgent one, over and over, on a PriorityBlockingQueue (one lock around a heap) and on a {@link
+ * RelaxedPriorityQueue} with a strict and with a sprayed poll. On one or two cores the heap behind
+ * one lock wins, the skip list pays for its allocations and CASes, the lock free queue pays off
+ * once many cores add and take at the same time.
+ *
+ * <p>Then 4 threads drain 100 000 deadlines 0 to 99 999, the n-th element taken should be n, the
+ * difference shows how relaxed the sprayed poll() is. At last a {@link ConcurrentTopK} keeps the 5
+ * slowest of a million request latencies.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 19 : 58 : 12)
+ */
+public class MyRelaxedPriorityQueue {
+  private static final int THREADS = 4;
+  private static final int OPERATIONS = 250_000;
+  private static final int BACKLOG = 10_000;
+  private static final int DRAINED = 100_000;
+
+  public static void main(String[] args) throws InterruptedException {
+    System.out.println("****Add and take, " + THREADS + " threads****\n");
+    PriorityBlockingQueue<Long> blockingQueue = new PriorityBlockingQueue<>();
+    run("PriorityBlockingQueue", blockingQueue::offer, blockingQueue::poll);
+    RelaxedPriorityQueue<Long> strict = new RelaxedPriorityQueue<>();
+    run("RelaxedPriorityQueue.pollFirst", strict::offer, strict::pollFirst);
+    RelaxedPriorityQueue<Long> relaxed = new RelaxedPriorityQueue<>(Long::compare, THREADS);
+    run("RelaxedPriorityQueue.poll", relaxed::offer, relaxed::poll);
+
+    System.out.println("\n****Order of the taken elements****\n");
+    PriorityBlockingQueue<Long> drainedBlockingQueue = new PriorityBlockingQueue<>();
+    drain("PriorityBlockingQueue", drainedBlockingQueue::offer, drainedBlockingQueue::poll);
+    RelaxedPriorityQueue<Long> drainedRelaxed = new RelaxedPriorityQueue<>(Long::compare, THREADS);
+    drain("RelaxedPriorityQueue.poll", drainedRelaxed::offer, drainedRelaxed::poll);
+
+    System.out.println("\n****5 slowest of 1 000 000 latencies****\n");
+    ConcurrentTopK<Long> slowest = new ConcurrentTopK<>(5);
+    runThreads(
+        () -> {
+          ThreadLocalRandom random = ThreadLocalRandom.current();
+          for (int i = 0; i < 1_000_000 / THREADS; i++) {
+            // mostly fast, rarely very slow
+            slowest.offer((long) (100 / (random.nextDouble() + 1e-6)));
+          }
+        });
+    System.out.println(slowest.snapshot() + " us");
+  }
+
+  private static void run(String name, Consumer<Long> offer, Supplier<Long> poll)
+      throws InterruptedException {
+    for (long i = 0; i < BACKLOG; i++) {
+      offer.accept(ThreadLocalRandom.current().nextLong(1_000_000));
+    }
+    long start = System.nanoTime();
+    runThreads(
+        () -> {
+          ThreadLocalRandom random = ThreadLocalRandom.current();
+          for (int i = 0; i < OPERATIONS; i++) {
+            offer.accept(random.nextLong(1_000_000));
+            poll.get();
+          }
+        });
+    long elapsed = System.nanoTime() - start;
+    System.out.printf(
+        "%-32s : %6d ms, %5.2f million add + take per second%n",
+        name,
+        TimeUnit.NANOSECONDS.toMillis(elapsed),
+        (double) THREADS * OPERATIONS / elapsed * 1e3);
+  }
+
+  private static void drain(String name, Consumer<Long> offer, Supplier<Long> poll)
+      throws InterruptedException {
+    for (long deadline = 0; deadline < DRAINED; deadline++) {
+      offer.accept(deadline);
+    }
+    AtomicInteger taken = new AtomicInteger();
+    LongAdder totalError = new LongAdder();
+    LongAccumulator maxError = new LongAccumulator(Math::max, 0);
+    runThreads(
+        () -> {
+          Long deadline;
+          while ((deadline = poll.get()) != null) {
+            long error = Math.abs(deadline - taken.getAndIncrement());
+            totalError.add(error);
+            maxError.accumulate(error);
+          }
+        });
+    System.out.printf(
+        "%-32s : n-th taken is n +- %.1f on average, %d at most%n",
+        name, totalError.doubleValue() / DRAINED, maxError.get());
+  }
+
+  private static void runThreads(Runnable task) throws InterruptedException {
+    Thread[] threads = new Thread[THREADS];
+    for (int i = 0; i < THREADS; i++) {
+      threads[i] = new Thread(task);
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+}
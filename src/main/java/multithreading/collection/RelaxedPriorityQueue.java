@@ -0,0 +1,285 @@
+package multithreading.collection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free priority queue on a skip list, where poll() takes one of the smallest elements rather
+ * than exactly the smallest one (a <b>SprayList</b>).
+ *
+ * <p>PriorityBlockingQueue and DelayQueue keep a binary heap behind one lock, so producers and
+ * consumers all wait for each other. Here the elements are kept sorted in a lock free skip list
+ * (Herlihy and Shavit) :- offer() links the new node with CASes level by level, and a node is
+ * removed by first marking its next references, after which any thread walking past it unlinks it.
+ *
+ * <p>A strict poll (pollFirst()) still makes every consumer fight for the first node. poll()
+ * instead <b>sprays</b> :- it starts a few levels up and jumps a random number of nodes forward on
+ * each level on its way down, so concurrent consumers land on different nodes among the first few
+ * dozen and take them without colliding. The more consumers, the higher and longer the jumps. As
+ * the sprays rarely land on the very first nodes, one poll() in consumers is strict and cleans them
+ * up. An element may come out a little before a smaller one, which is fine for scheduling (a task
+ * runs a few microseconds early or late) but not where the order must be exact.
+ *
+ * <p>Elements which compare equal come out in the order they were added.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 19 : 58 : 12)
+ */
+public class RelaxedPriorityQueue<E> {
+  private static final int MAX_LEVEL = 32;
+
+  private final Comparator<? super E> comparator;
+  private final Node<E> head = new Node<>(null, Long.MIN_VALUE, MAX_LEVEL);
+  private final Node<E> tail = new Node<>(null, Long.MAX_VALUE, MAX_LEVEL);
+  private final AtomicLong sequence = new AtomicLong();
+  private final LongAdder size = new LongAdder();
+
+  /** Highest number of levels of any node, the levels above only link head to tail. */
+  private final AtomicInteger levelsInUse = new AtomicInteger(1);
+
+  /** Levels poll() sprays over and the most nodes it jumps on each, 0 for a strict poll. */
+  private final int sprayHeight;
+
+  private final int sprayJump;
+
+  /** One poll() in cleanerOdds is strict. */
+  private final int cleanerOdds;
+
+  /** Natural ordering, sprayed for as many consumers as there are processors. */
+  @SuppressWarnings("unchecked")
+  public RelaxedPriorityQueue() {
+    this((Comparator<? super E>) Comparator.naturalOrder());
+  }
+
+  public RelaxedPriorityQueue(Comparator<? super E> comparator) {
+    this(comparator, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * @param consumers number of threads expected to poll() at the same time, 1 for a strict poll
+   */
+  public RelaxedPriorityQueue(Comparator<? super E> comparator, int consumers) {
+    if (consumers <= 0) {
+      throw new IllegalArgumentException("consumers must be positive");
+    }
+    this.comparator = Objects.requireNonNull(comparator);
+    // log2(consumers) + 1 levels, as in the SprayList paper
+    this.sprayHeight = 32 - Integer.numberOfLeadingZeros(consumers);
+    this.sprayJump = consumers == 1 ? 0 : sprayHeight;
+    this.cleanerOdds = consumers;
+    for (int level = 0; level < MAX_LEVEL; level++) {
+      head.next[level] = new AtomicMarkableReference<>(tail, false);
+      tail.next[level] = new AtomicMarkableReference<>(null, false);
+    }
+  }
+
+  public void offer(E item) {
+    Node<E> node = new Node<>(Objects.requireNonNull(item), sequence.getAndIncrement(), levels());
+    levelsInUse.accumulateAndGet(node.next.length, Math::max);
+    Node<E>[] preds = newNodes();
+    Node<E>[] succs = newNodes();
+    while (true) {
+      find(node, preds, succs);
+      for (int level = 0; level < node.next.length; level++) {
+        node.next[level] = new AtomicMarkableReference<>(succs[level], false);
+      }
+      // on the bottom level the node is in the queue, the levels above are only shortcuts
+      if (preds[0].next[0].compareAndSet(succs[0], node, false, false)) {
+        break;
+      }
+    }
+    size.increment();
+    for (int level = 1; level < node.next.length; level++) {
+      while (!preds[level].next[level].compareAndSet(succs[level], node, false, false)) {
+        find(node, preds, succs);
+        Node<E> succ = node.next[level].getReference();
+        // marked :- the node is already being removed, don't link it any higher
+        if (!node.next[level].compareAndSet(succ, succs[level], false, false)) {
+          return;
+        }
+      }
+    }
+  }
+
+  /** Removes one of the smallest elements, see the class comment. Returns null if it is empty. */
+  public E poll() {
+    if (sprayJump == 0) {
+      return pollFirst();
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    // a cleaner, sprays rarely land on the very first nodes so they would stay behind
+    if (random.nextInt(cleanerOdds) == 0) {
+      return pollFirst();
+    }
+    Node<E> node = head;
+    for (int level = sprayHeight - 1; level >= 0; level--) {
+      for (int jumps = random.nextInt(sprayJump + 1); jumps > 0; jumps--) {
+        Node<E> next = node.next[level].getReference();
+        if (next == tail) {
+          break;
+        }
+        node = next;
+      }
+    }
+    for (node = node == head ? first() : node; node != tail; node = node.next[0].getReference()) {
+      if (node.take()) {
+        remove(node);
+        return node.item;
+      }
+    }
+    // landed behind the last element still there, the ones before it may be left
+    return pollFirst();
+  }
+
+  /** Removes exactly the smallest element, returns null if it is empty. */
+  public E pollFirst() {
+    for (Node<E> node = first(); node != tail; node = node.next[0].getReference()) {
+      if (node.take()) {
+        remove(node);
+        return node.item;
+      }
+    }
+    return null;
+  }
+
+  /** Returns the smallest element without removing it, or null. */
+  public E peek() {
+    for (Node<E> node = first(); node != tail; node = node.next[0].getReference()) {
+      if (node.taken == 0) {
+        return node.item;
+      }
+    }
+    return null;
+  }
+
+  /** Counts elements being added or removed right now as well, so it is an estimate. */
+  public int size() {
+    return (int) Math.max(0, Math.min(Integer.MAX_VALUE, size.sum()));
+  }
+
+  public boolean isEmpty() {
+    return peek() == null;
+  }
+
+  /**
+   * The elements from the smallest, weakly consistent like the iterators of the concurrent
+   * collections :- elements added or removed meanwhile may or may not be there.
+   */
+  public List<E> toList() {
+    List<E> elements = new ArrayList<>();
+    for (Node<E> node = first(); node != tail; node = node.next[0].getReference()) {
+      if (node.taken == 0) {
+        elements.add(node.item);
+      }
+    }
+    return elements;
+  }
+
+  private Node<E> first() {
+    return head.next[0].getReference();
+  }
+
+  /** Unlinks a node this thread has taken :- marks it from the top level down, then snips it. */
+  private void remove(Node<E> node) {
+    for (int level = node.next.length - 1; level >= 0; level--) {
+      AtomicMarkableReference<Node<E>> next = node.next[level];
+      while (!next.isMarked()) {
+        Node<E> succ = next.getReference();
+        next.compareAndSet(succ, succ, false, true);
+      }
+    }
+    find(node, newNodes(), newNodes());
+    size.decrement();
+  }
+
+  /**
+   * Fills preds and succs with the nodes before and from the node on every level in use, unlinking
+   * the marked nodes on the way.
+   */
+  private void find(Node<E> node, Node<E>[] preds, Node<E>[] succs) {
+    boolean[] marked = {false};
+    retry:
+    while (true) {
+      Node<E> pred = head;
+      for (int level = levelsInUse.get() - 1; level >= 0; level--) {
+        Node<E> curr = pred.next[level].getReference();
+        while (true) {
+          Node<E> succ = curr.next[level].get(marked);
+          while (marked[0]) {
+            if (!pred.next[level].compareAndSet(curr, succ, false, false)) {
+              // pred changed or is being removed itself
+              continue retry;
+            }
+            curr = succ;
+            succ = curr.next[level].get(marked);
+          }
+          if (isBefore(curr, node)) {
+            pred = curr;
+            curr = succ;
+          } else {
+            break;
+          }
+        }
+        preds[level] = pred;
+        succs[level] = curr;
+      }
+      return;
+    }
+  }
+
+  private boolean isBefore(Node<E> curr, Node<E> node) {
+    if (curr == tail) {
+      return false;
+    }
+    int order = comparator.compare(curr.item, node.item);
+    return order < 0 || (order == 0 && curr.sequence < node.sequence);
+  }
+
+  /** Geometric :- half of the nodes have one level, a quarter two and so on. */
+  private static int levels() {
+    int random = ThreadLocalRandom.current().nextInt();
+    return Math.min(MAX_LEVEL, Integer.numberOfTrailingZeros(random) + 1);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E> Node<E>[] newNodes() {
+    return (Node<E>[]) new Node<?>[MAX_LEVEL];
+  }
+
+  private static final class Node<E> {
+    @SuppressWarnings("unchecked")
+    static final AtomicIntegerFieldUpdater<Node<?>> TAKEN =
+        (AtomicIntegerFieldUpdater<Node<?>>)
+            (AtomicIntegerFieldUpdater<?>)
+                AtomicIntegerFieldUpdater.newUpdater(Node.class, "taken");
+
+    final E item;
+
+    /** Order of the offer() calls, so equal elements stay distinct and in order. */
+    final long sequence;
+
+    final AtomicMarkableReference<Node<E>>[] next;
+
+    /** 1 once a consumer has claimed the node, before it is unlinked. */
+    volatile int taken;
+
+    @SuppressWarnings("unchecked")
+    Node(E item, long sequence, int levels) {
+      this.item = item;
+      this.sequence = sequence;
+      this.next = (AtomicMarkableReference<Node<E>>[]) new AtomicMarkableReference<?>[levels];
+    }
+
+    boolean take() {
+      return taken == 0 && TAKEN.compareAndSet(this, 0, 1);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package multithreading.executor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock free queue for many producers and many consumers on a preallocated array (Dmitry
+ * Vyukov's MPMC queue) :- unlike ArrayBlockingQueue there is no lock, and unlike
+ * ConcurrentLinkedQueue or LinkedBlockingQueue no node is allocated per element.
+ *
+ * <p>Every slot has a sequence number saying whose turn it is :- a producer claims slot tail when
+ * its sequence equals tail, a consumer claims slot head when its sequence equals head + 1. After
+ * using a slot each bumps its sequence for the other side, which also publishes the element.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 21 : 12 : 40)
+ */
+final class BoundedRing<E> {
+  private final Object[] elements;
+  private final AtomicLongArray sequences;
+  private final int mask;
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong tail = new AtomicLong();
+
+  /**
+   * @param capacity rounded up to a power of two, at least 2
+   */
+  BoundedRing(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    // at least 2, with a single slot a full one and an empty one would have the same sequence
+    int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+    elements = new Object[size];
+    sequences = new AtomicLongArray(size);
+    mask = size - 1;
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /** Returns false if it is full. */
+  boolean offer(E element) {
+    long t = tail.get();
+    while (true) {
+      int index = (int) t & mask;
+      long turn = sequences.get(index) - t;
+      if (turn == 0) {
+        if (tail.compareAndSet(t, t + 1)) {
+          elements[index] = element;
+          sequences.set(index, t + 1);
+          return true;
+        }
+        t = tail.get();
+      } else if (turn < 0) {
+        // the slot still holds the element of the previous lap
+        return false;
+      } else {
+        // another producer took the slot
+        t = tail.get();
+      }
+    }
+  }
+
+  /** Returns null if it is empty. */
+  @SuppressWarnings("unchecked")
+  E poll() {
+    long h = head.get();
+    while (true) {
+      int index = (int) h & mask;
+      long turn = sequences.get(index) - (h + 1);
+      if (turn == 0) {
+        if (head.compareAndSet(h, h + 1)) {
+          E element = (E) elements[index];
+          elements[index] = null;
+          sequences.set(index, h + elements.length);
+          return element;
+        }
+        h = head.get();
+      } else if (turn < 0) {
+        // nothing published in the slot yet
+        return null;
+      } else {
+        // another consumer took the slot
+        h = head.get();
+      }
+    }
+  }
+
+  int capacity() {
+    return elements.length;
+  }
+}
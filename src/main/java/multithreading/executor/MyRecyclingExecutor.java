@@ -0,0 +1,111 @@
+package multithreading.executor;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 2 million tiny tasks handed to 4 worker threads :- with submit() and with execute() on a fixed
+ * thread pool, and with execute() on a {@link RecyclingExecutor}. The task is the same Runnable
+ * every time, so only what the executor allocates is counted.
+ *
+ * <p>Prints the time until all tasks have run, the bytes the submitting thread allocated per task
+ * and the number of garbage collections meanwhile. On a few cores the times are close, the hand
+ * over itself dominates, the difference is the garbage :- none at all with the carriers.
+ * Allocations are read from the HotSpot specific com.sun.management.ThreadMXBean, on other JVMs
+ * only the time and the collections are printed.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 21 : 12 : 40)
+ */
+public class MyRecyclingExecutor {
+  private static final int TASKS = 2_000_000;
+  private static final int THREADS = 4;
+  private static final int ROUNDS = 3;
+
+  public static void main(String[] args) throws InterruptedException {
+    for (int round = 1; round <= ROUNDS; round++) {
+      // the first rounds are the warm up for the JIT compiler
+      System.out.println("****Round " + round + "****");
+      fixedThreadPool(true);
+      fixedThreadPool(false);
+      recyclingExecutor();
+      System.out.println();
+    }
+  }
+
+  private static void fixedThreadPool(boolean submit) throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    LongAdder counter = new LongAdder();
+    Runnable task = counter::increment;
+    long bytes = allocatedBytes();
+    long collections = collections();
+    long start = System.nanoTime();
+    for (int i = 0; i < TASKS; i++) {
+      if (submit) {
+        executor.submit(task);
+      } else {
+        executor.execute(task);
+      }
+    }
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+    print(submit ? "FixedThreadPool.submit" : "FixedThreadPool.execute", start, bytes, collections);
+    check(counter);
+  }
+
+  private static void recyclingExecutor() throws InterruptedException {
+    RecyclingExecutor executor = new RecyclingExecutor(THREADS, 1024);
+    LongAdder counter = new LongAdder();
+    long bytes = allocatedBytes();
+    long collections = collections();
+    long start = System.nanoTime();
+    for (int i = 0; i < TASKS; i++) {
+      // the action captures nothing, the counter goes in as the argument
+      executor.execute(LongAdder::increment, counter);
+    }
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+    print("RecyclingExecutor.execute", start, bytes, collections);
+    check(counter);
+    System.out.println("Carriers allocated beyond the pool : " + executor.getCarrierMisses());
+  }
+
+  private static void print(String name, long start, long bytes, long collections) {
+    long elapsed = System.nanoTime() - start;
+    long allocated = allocatedBytes();
+    String allocation =
+        allocated < 0
+            ? ""
+            : String.format(", %5.1f bytes/task", (double) (allocated - bytes) / TASKS);
+    System.out.printf(
+        "%-26s : %5d ms%s, %3d GCs%n",
+        name, TimeUnit.NANOSECONDS.toMillis(elapsed), allocation, collections() - collections);
+  }
+
+  private static void check(LongAdder counter) {
+    if (counter.sum() != TASKS) {
+      System.out.println("Tasks lost : " + (TASKS - counter.sum()));
+    }
+  }
+
+  private static long collections() {
+    long collections = 0;
+    for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+      collections += Math.max(0, collector.getCollectionCount());
+    }
+    return collections;
+  }
+
+  private static long allocatedBytes() {
+    java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) threadMXBean)
+          .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return -1;
+  }
+}
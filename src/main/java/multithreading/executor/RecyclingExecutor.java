@@ -0,0 +1,264 @@
+package multithreading.executor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * A fixed pool of worker threads where handing over a task allocates nothing.
+ *
+ * <p>executorService.submit(task) in {@link ExecutorFramework} allocates a FutureTask, and the
+ * LinkedBlockingQueue of a fixed thread pool a node for it, besides the lambda itself. At millions
+ * of small tasks per second that garbage alone fills the young generation over and over. Here the
+ * task is put into a <b>carrier</b> taken from a {@link TaskPool}, the carriers go through a {@link
+ * BoundedRing} (an array, no nodes), and a worker gives the carrier back to the pool once the task
+ * has run. There is no Future :- execute() is fire and forget, a task reports its result itself (a
+ * counter, a latch, a queue).
+ *
+ * <p>So nothing is allocated as long as the task itself is not :- a method reference or lambda
+ * which captures nothing is a single object for ever, one which captures something should be
+ * created once outside the loop, or use execute(action, argument) with an object that already
+ * exists.
+ *
+ * <p>When the queue is full execute() waits for room (backpressure) instead of rejecting the task.
+ * Both sides try a few times before they wait on a condition :- a producer yields to the workers,
+ * an idle worker spins, so the lock and the wake up are only paid when one side really has to wait.
+ * An exception thrown by a task goes to the uncaught exception handler of the worker, the worker
+ * carries on.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 21 : 12 : 40)
+ */
+public class RecyclingExecutor implements Executor {
+  /** Polls of an empty queue before a worker waits. */
+  private static final int SPINS = 64;
+
+  private final BoundedRing<Carrier> queue;
+  private final TaskPool<Carrier> carriers;
+  private final CountDownLatch terminated;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  private final AtomicInteger idleWorkers = new AtomicInteger();
+  private final AtomicInteger waitingProducers = new AtomicInteger();
+
+  private volatile boolean shutdown;
+
+  /**
+   * @param queueCapacity tasks waiting for a worker, rounded up to a power of two
+   */
+  public RecyclingExecutor(int threads, int queueCapacity) {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("threads must be positive");
+    }
+    queue = new BoundedRing<>(queueCapacity);
+    // one for every slot of the queue and every running task, so the pool runs dry only while
+    // producers wait for room
+    carriers = new TaskPool<>(queue.capacity() + threads, Carrier::new);
+    terminated = new CountDownLatch(threads);
+    for (int i = 0; i < threads; i++) {
+      Thread worker = new Thread(this::work, "recycling-worker-" + i);
+      worker.start();
+    }
+  }
+
+  /**
+   * Runs the command on a worker, waiting while the queue is full.
+   *
+   * @throws RejectedExecutionException if the executor is shut down
+   */
+  @Override
+  public void execute(Runnable command) {
+    if (command == null) {
+      throw new NullPointerException();
+    }
+    Carrier carrier = carriers.acquire();
+    carrier.command = command;
+    enqueue(carrier);
+  }
+
+  /**
+   * Runs action.accept(argument) on a worker, for a task which needs data without allocating a
+   * lambda capturing it.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void execute(Consumer<? super T> action, T argument) {
+    if (action == null) {
+      throw new NullPointerException();
+    }
+    Carrier carrier = carriers.acquire();
+    carrier.action = (Consumer<Object>) action;
+    carrier.argument = argument;
+    enqueue(carrier);
+  }
+
+  /** The tasks already queued still run, new ones are rejected. */
+  public void shutdown() {
+    shutdown = true;
+    lock.lock();
+    try {
+      notEmpty.signalAll();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return terminated.await(timeout, unit);
+  }
+
+  /** Carriers allocated because the pool was empty, beyond the preallocated ones. */
+  public long getCarrierMisses() {
+    return carriers.getMisses();
+  }
+
+  private void enqueue(Carrier carrier) {
+    if (shutdown) {
+      reject(carrier);
+    }
+    boolean offered = queue.offer(carrier);
+    for (int spins = 0; !offered && spins < SPINS; spins++) {
+      // let the workers make room
+      Thread.yield();
+      offered = queue.offer(carrier);
+    }
+    if (!offered) {
+      waitForRoom(carrier);
+    }
+    if (shutdown) {
+      // shut down meanwhile, the workers may have found the queue empty and exited
+      runRemaining();
+    } else if (idleWorkers.get() > 0) {
+      lock.lock();
+      try {
+        notEmpty.signal();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private void waitForRoom(Carrier carrier) {
+    lock.lock();
+    waitingProducers.incrementAndGet();
+    try {
+      // offered again after the count is raised, a worker which made room before saw no producer
+      while (!queue.offer(carrier)) {
+        if (shutdown) {
+          reject(carrier);
+        }
+        notFull.awaitUninterruptibly();
+      }
+    } finally {
+      waitingProducers.decrementAndGet();
+      lock.unlock();
+    }
+  }
+
+  private void reject(Carrier carrier) {
+    carrier.clear();
+    carriers.release(carrier);
+    throw new RejectedExecutionException("RecyclingExecutor is shut down");
+  }
+
+  private void work() {
+    try {
+      Carrier carrier;
+      while ((carrier = take()) != null) {
+        run(carrier);
+      }
+    } finally {
+      terminated.countDown();
+    }
+  }
+
+  /** Returns null once it is shut down and the queue is empty. */
+  private Carrier take() {
+    Carrier carrier = queue.poll();
+    for (int spins = 0; carrier == null && spins < SPINS; spins++) {
+      Thread.onSpinWait();
+      carrier = queue.poll();
+    }
+    if (carrier == null) {
+      carrier = awaitTask();
+    }
+    if (carrier != null && waitingProducers.get() > 0) {
+      lock.lock();
+      try {
+        notFull.signal();
+      } finally {
+        lock.unlock();
+      }
+    }
+    return carrier;
+  }
+
+  private Carrier awaitTask() {
+    lock.lock();
+    idleWorkers.incrementAndGet();
+    try {
+      // polled again after the count is raised, a producer which offered before saw no idle worker
+      while (true) {
+        // read before the poll :- a task offered before the shutdown is then always found, even
+        // if its producer is still waiting for the lock to signal
+        boolean stop = shutdown;
+        Carrier carrier = queue.poll();
+        if (carrier != null || stop) {
+          return carrier;
+        }
+        notEmpty.awaitUninterruptibly();
+      }
+    } finally {
+      idleWorkers.decrementAndGet();
+      lock.unlock();
+    }
+  }
+
+  private void runRemaining() {
+    Carrier carrier;
+    while ((carrier = queue.poll()) != null) {
+      run(carrier);
+    }
+  }
+
+  private void run(Carrier carrier) {
+    try {
+      carrier.run();
+    } catch (Throwable throwable) {
+      Thread thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+    } finally {
+      carrier.clear();
+      carriers.release(carrier);
+    }
+  }
+
+  /** Mutable holder of one task, reused for ever. */
+  private static final class Carrier {
+    Runnable command;
+    Consumer<Object> action;
+    Object argument;
+
+    void run() {
+      if (command != null) {
+        command.run();
+      } else {
+        action.accept(argument);
+      }
+    }
+
+    /** So the pool doesn't keep the task and its data reachable. */
+    void clear() {
+      command = null;
+      action = null;
+      argument = null;
+    }
+  }
+}
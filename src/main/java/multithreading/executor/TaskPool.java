@@ -0,0 +1,59 @@
+package multithreading.executor;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Thread safe pool of preallocated, mutable objects, e.g. the tasks of a hot path :- instead of
+ * allocating a new task (plus a lambda and a Future) for every submit, take one from the pool, set
+ * its fields, and give it back once it has run. Objects which live that long end up in the old
+ * generation and cost the young GCs nothing.
+ *
+ * <p>The objects are kept in a {@link BoundedRing}, so acquire() and release() are a CAS each and
+ * allocate nothing. If the pool is empty acquire() creates a new object rather than waiting (a
+ * <b>miss</b>), release() drops the objects that don't fit back in, so the pool never blocks and
+ * never grows. Many misses mean the pool is too small.
+ *
+ * <p>An object must not be used after release(), another thread may already have it. Whoever
+ * releases it should clear references it holds, or the pool keeps them reachable.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 21 : 12 : 40)
+ */
+public class TaskPool<T> {
+  private final BoundedRing<T> ring;
+  private final Supplier<? extends T> factory;
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * @param capacity objects created right away, rounded up to a power of two
+   */
+  public TaskPool(int capacity, Supplier<? extends T> factory) {
+    this.ring = new BoundedRing<>(capacity);
+    this.factory = Objects.requireNonNull(factory);
+    for (int i = 0; i < ring.capacity(); i++) {
+      ring.offer(factory.get());
+    }
+  }
+
+  /** A pooled object, or a new one if the pool is empty. */
+  public T acquire() {
+    T task = ring.poll();
+    if (task == null) {
+      misses.increment();
+      task = factory.get();
+    }
+    return task;
+  }
+
+  /** Gives the object back, it is dropped if the pool is full. */
+  public void release(T task) {
+    ring.offer(Objects.requireNonNull(task));
+  }
+
+  /** Number of times acquire() found the pool empty and allocated. */
+  public long getMisses() {
+    return misses.sum();
+  }
+}
@@ -0,0 +1,60 @@
+package multithreading.flow;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+/**
+ * A subscriber which takes its items a batch at a time and keeps its demand topped up by itself.
+ *
+ * <p>It requests prefetch items up front, and again as many as it has consumed once that is half of
+ * prefetch, so the publisher always has demand to fill but never more than prefetch items are on
+ * the way. A {@link FlowPublisher} hands it everything it may deliver in one run as a single
+ * onBatch() call instead of one onNext() per item, other publishers just call onNext().
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 20 : 46 : 33)
+ */
+public abstract class BatchSubscriber<T> implements Flow.Subscriber<T> {
+  private final int prefetch;
+  private final int replenish;
+  private Flow.Subscription subscription;
+  private int consumed;
+
+  protected BatchSubscriber(int prefetch) {
+    if (prefetch <= 0) {
+      throw new IllegalArgumentException("prefetch must be positive");
+    }
+    this.prefetch = prefetch;
+    this.replenish = Math.max(1, prefetch / 2);
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    this.subscription = subscription;
+    subscription.request(prefetch);
+  }
+
+  @Override
+  public final void onNext(T item) {
+    onNextBatch(Collections.singletonList(item));
+  }
+
+  /** Called by {@link FlowPublisher} with the items of one run, in order. */
+  public final void onNextBatch(List<T> items) {
+    onBatch(items);
+    consumed += items.size();
+    if (consumed >= replenish) {
+      subscription.request(consumed);
+      consumed = 0;
+    }
+  }
+
+  /** The items of one onNextBatch() call, a single item if it came through onNext(). */
+  protected abstract void onBatch(List<T> items);
+
+  /** Stops the items, onComplete() and onError() are not called afterwards. */
+  protected void cancel() {
+    subscription.cancel();
+  }
+}
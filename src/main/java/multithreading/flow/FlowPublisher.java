@@ -0,0 +1,418 @@
+package multithreading.flow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import multithreading.interthreadcommunication.Channel;
+
+/**
+ * A {@link Flow.Publisher} (Reactive Streams) fed by producers through put(), every subscriber gets
+ * every item published after it subscribed.
+ *
+ * <p>With MyProducer and MyConsumer each consumer is a thread blocked in take(). Here a subscriber
+ * is just an object :- each has its own small ring buffer, and when it has items and <b>demand</b>
+ * (items it asked for with request(n)) a drain task on the shared executor hands them over, so
+ * thousands of subscribers share a few threads and no thread waits for a slow one.
+ *
+ * <p><b>Backpressure</b> :- a subscriber only gets what it requested, the rest waits in its buffer,
+ * and put() blocks while the buffer of a subscriber is full. So the slowest subscriber sets the
+ * pace, like a bounded queue, instead of items piling up in an unbounded one.
+ *
+ * <p><b>Order</b> :- put() calls run one at a time from start to end, a put() waiting for room in
+ * one buffer holds back the other producers as well. So every subscriber gets the items in the same
+ * order, even with several producers.
+ *
+ * <p>Producers which already put() into a {@link Channel} are connected with publishFrom(), a
+ * single thread moves the items from the channel to every subscriber.
+ *
+ * <p><b>Batches</b> :- a drain task hands over up to {@link #BATCH} items per run, to a {@link
+ * BatchSubscriber} in a single onNextBatch() call, then gives the thread to the next subscriber.
+ *
+ * <p><b>Fusion</b> :- map() and filter() don't add a publisher with its own buffers and threads in
+ * between, they are applied by the drain task of the subscriber while it hands the items over. An
+ * item dropped by a filter doesn't count against the demand.
+ *
+ * <p>Signals to a subscriber never overlap, the drain task of a subscription runs on one thread at
+ * a time (the count of pending signals decides which call schedules it), and onSubscribe() is
+ * signalled by it as well.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 20 : 46 : 33)
+ */
+public class FlowPublisher<T> implements Flow.Publisher<T>, AutoCloseable {
+  /** Most items a drain task hands over before it lets other subscriptions run. */
+  public static final int BATCH = 256;
+
+  /** Handed to a subscriber which is failed before its drain task could ever run. */
+  private static final Flow.Subscription CANCELLED =
+      new Flow.Subscription() {
+        @Override
+        public void request(long n) {}
+
+        @Override
+        public void cancel() {}
+      };
+
+  private final Executor executor;
+  private final int bufferCapacity;
+  private final List<BufferedSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+  /** Producers put() one at a time, each buffer has a single writer. */
+  private final Object producerLock = new Object();
+
+  /** Producers waiting on producerLock, drain tasks only notify when there are some. */
+  private final AtomicInteger waitingProducers = new AtomicInteger();
+
+  /** A put() is in progress, guarded by producerLock. */
+  private boolean putting;
+
+  private volatile boolean closed;
+  private volatile Throwable failure;
+
+  public FlowPublisher() {
+    this(ForkJoinPool.commonPool(), 256);
+  }
+
+  /**
+   * @param bufferCapacity items buffered per subscriber, rounded up to a power of two
+   */
+  public FlowPublisher(Executor executor, int bufferCapacity) {
+    if (bufferCapacity <= 0) {
+      throw new IllegalArgumentException("bufferCapacity must be positive");
+    }
+    this.executor = Objects.requireNonNull(executor);
+    this.bufferCapacity = bufferCapacity == 1 ? 1 : Integer.highestOneBit(bufferCapacity - 1) << 1;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super T> subscriber) {
+    subscribe(subscriber, null);
+  }
+
+  /** Publishes the items transformed by the mapper, see the class comment on fusion. */
+  public <R> FusedPublisher<T, R> map(Function<? super T, ? extends R> mapper) {
+    return new FusedPublisher<T, T>(this, item -> item).map(mapper);
+  }
+
+  /** Publishes only the items matching the predicate, see the class comment on fusion. */
+  public FusedPublisher<T, T> filter(Predicate<? super T> predicate) {
+    return new FusedPublisher<T, T>(this, item -> item).filter(predicate);
+  }
+
+  /**
+   * Hands the item to every current subscriber, waiting while the buffer of one of them is full.
+   *
+   * @throws IllegalStateException if the publisher is closed
+   */
+  public void put(T item) throws InterruptedException {
+    Objects.requireNonNull(item);
+    synchronized (producerLock) {
+      // wait() releases the lock, so the other producers wait here for the whole put()
+      while (putting) {
+        waitForTurn();
+      }
+      if (closed) {
+        throw new IllegalStateException("FlowPublisher is closed");
+      }
+      putting = true;
+      try {
+        for (BufferedSubscription subscription : subscriptions) {
+          while (!subscription.offer(item) && !subscription.cancelled) {
+            waitingProducers.incrementAndGet();
+            try {
+              // checked again after the count is raised, a drain task which freed room before
+              // didn't see this producer waiting
+              if (!subscription.hasRoom() && !subscription.cancelled) {
+                producerLock.wait();
+              }
+            } finally {
+              waitingProducers.decrementAndGet();
+            }
+          }
+          subscription.signal();
+        }
+      } finally {
+        putting = false;
+        if (waitingProducers.get() > 0) {
+          producerLock.notifyAll();
+        }
+      }
+    }
+  }
+
+  /**
+   * Publishes what producers put into the channel :- takes the items out of it and put()s them here
+   * until the calling thread is interrupted. One thread serves every subscriber, instead of a
+   * consumer thread per subscriber blocked in take(). The items still in the channel when it is
+   * interrupted stay there, the one being put() may not reach every subscriber.
+   */
+  public void publishFrom(Channel<? extends T> channel) {
+    try {
+      while (true) {
+        put(channel.take());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public int getSubscriberCount() {
+    return subscriptions.size();
+  }
+
+  /** Completes every subscriber once it has received the items buffered for it. */
+  @Override
+  public void close() {
+    synchronized (producerLock) {
+      closed = true;
+    }
+    subscriptions.forEach(BufferedSubscription::signal);
+  }
+
+  /** Signals the failure to every subscriber right away, the items still buffered are dropped. */
+  public void closeExceptionally(Throwable throwable) {
+    synchronized (producerLock) {
+      failure = Objects.requireNonNull(throwable);
+      closed = true;
+    }
+    subscriptions.forEach(BufferedSubscription::signal);
+  }
+
+  /**
+   * @param function the fused map() and filter() stages, null drops the item, or none at all
+   */
+  @SuppressWarnings("unchecked")
+  void subscribe(Flow.Subscriber<?> subscriber, Function<?, ?> function) {
+    Objects.requireNonNull(subscriber);
+    BufferedSubscription subscription =
+        new BufferedSubscription(
+            (Flow.Subscriber<Object>) subscriber, (Function<Object, Object>) function);
+    // added under the lock, so it misses no item put after subscribe() returns
+    synchronized (producerLock) {
+      subscriptions.add(subscription);
+    }
+    subscription.signal();
+  }
+
+  /** Called under producerLock while another put() is in progress. */
+  private void waitForTurn() throws InterruptedException {
+    waitingProducers.incrementAndGet();
+    try {
+      producerLock.wait();
+    } finally {
+      waitingProducers.decrementAndGet();
+    }
+  }
+
+  private void wakeUpProducer() {
+    if (waitingProducers.get() > 0) {
+      synchronized (producerLock) {
+        producerLock.notifyAll();
+      }
+    }
+  }
+
+  private final class BufferedSubscription implements Flow.Subscription, Runnable {
+    final Flow.Subscriber<Object> subscriber;
+    final Function<Object, Object> function;
+
+    /** Single producer single consumer ring, tail is written under producerLock only. */
+    final Object[] items = new Object[bufferCapacity];
+
+    final int mask = bufferCapacity - 1;
+    final AtomicLong head = new AtomicLong();
+    final AtomicLong tail = new AtomicLong();
+
+    final AtomicLong demand = new AtomicLong();
+
+    /** Signals not handled yet, the call which raises it from 0 schedules the drain task. */
+    final AtomicInteger pending = new AtomicInteger();
+
+    volatile boolean cancelled;
+    volatile Throwable invalidRequest;
+    boolean subscribed;
+    boolean terminated;
+
+    BufferedSubscription(Flow.Subscriber<Object> subscriber, Function<Object, Object> function) {
+      this.subscriber = subscriber;
+      this.function = function;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        // rule 3.9 of Reactive Streams
+        invalidRequest = new IllegalArgumentException("request must be positive : " + n);
+      } else {
+        demand.accumulateAndGet(
+            n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+      }
+      signal();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      signal();
+    }
+
+    boolean offer(Object item) {
+      long t = tail.get();
+      if (t - head.get() == items.length) {
+        return false;
+      }
+      items[(int) t & mask] = item;
+      tail.set(t + 1);
+      return true;
+    }
+
+    boolean hasRoom() {
+      return tail.get() - head.get() < items.length;
+    }
+
+    void signal() {
+      if (pending.getAndIncrement() == 0) {
+        schedule();
+      }
+    }
+
+    /**
+     * Called only by whoever raised pending from 0 or by the drain task itself, so it never runs
+     * alongside the drain task, and pending stays above 0 afterwards if the executor rejects it.
+     */
+    private void schedule() {
+      try {
+        executor.execute(this);
+      } catch (RejectedExecutionException e) {
+        terminate();
+        if (!subscribed) {
+          // rule 1.9 :- onSubscribe() comes first, even right before onError()
+          subscribed = true;
+          subscriber.onSubscribe(CANCELLED);
+        }
+        subscriber.onError(e);
+      }
+    }
+
+    @Override
+    public void run() {
+      int missed = 1;
+      while (true) {
+        boolean more = false;
+        if (!terminated) {
+          try {
+            more = drain();
+          } catch (Throwable throwable) {
+            // the subscriber (or a fused stage) failed, rule 2.13 :- it is cancelled
+            terminate();
+            subscriber.onError(throwable);
+          }
+        }
+        if (more) {
+          // the rest in another run, so the other subscriptions get the threads meanwhile, pending
+          // stays above 0 so nobody else schedules this one
+          schedule();
+          return;
+        }
+        missed = pending.addAndGet(-missed);
+        if (missed == 0) {
+          return;
+        }
+      }
+    }
+
+    /**
+     * @return true if there is more to hand over right away
+     */
+    private boolean drain() {
+      if (!subscribed) {
+        subscribed = true;
+        subscriber.onSubscribe(this);
+      }
+      if (cancelled) {
+        terminate();
+        return false;
+      }
+      if (invalidRequest != null) {
+        terminate();
+        subscriber.onError(invalidRequest);
+        return false;
+      }
+      if (failure != null) {
+        terminate();
+        subscriber.onError(failure);
+        return false;
+      }
+      long requested = demand.get();
+      int limit = (int) Math.min(requested, BATCH);
+      if (limit > 0 && head.get() != tail.get()) {
+        deliver(requested, limit);
+        long remaining = tail.get() - head.get();
+        return remaining > 0 ? demand.get() > 0 : closed;
+      }
+      if (closed && head.get() == tail.get()) {
+        terminate();
+        subscriber.onComplete();
+      }
+      return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliver(long requested, int limit) {
+      boolean batching = subscriber instanceof BatchSubscriber;
+      List<Object> batch = batching ? new ArrayList<>(limit) : null;
+      long h = head.get();
+      long t = tail.get();
+      int delivered = 0;
+      int taken = 0;
+      while (delivered < limit && h != t && taken < BATCH) {
+        int index = (int) h & mask;
+        Object item = items[index];
+        items[index] = null;
+        h++;
+        taken++;
+        if (function != null) {
+          item = function.apply(item);
+          if (item == null) {
+            continue;
+          }
+        }
+        delivered++;
+        if (batching) {
+          batch.add(item);
+        } else {
+          subscriber.onNext(item);
+        }
+      }
+      head.set(h);
+      wakeUpProducer();
+      if (requested != Long.MAX_VALUE) {
+        demand.addAndGet(-delivered);
+      }
+      if (batching && !batch.isEmpty()) {
+        ((BatchSubscriber<Object>) subscriber).onNextBatch(batch);
+      }
+    }
+
+    private void terminate() {
+      terminated = true;
+      // a producer waiting for room in this buffer stops waiting
+      cancelled = true;
+      subscriptions.remove(this);
+      for (long h = head.get(); h != tail.get(); h++) {
+        items[(int) h & mask] = null;
+      }
+      head.set(tail.get());
+      wakeUpProducer();
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package multithreading.flow;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The map() and filter() stages on a {@link FlowPublisher} fused into one function :- a subscriber
+ * subscribes to the FlowPublisher itself, and its drain task applies the function to each item on
+ * the way out. No buffers, no extra demand bookkeeping and no thread hops between the stages.
+ *
+ * <p>The fused function returns null for an item a filter dropped, the next stages skip it.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 20 : 46 : 33)
+ */
+public class FusedPublisher<T, R> implements Flow.Publisher<R> {
+  private final FlowPublisher<T> source;
+  private final Function<? super T, ? extends R> function;
+
+  FusedPublisher(FlowPublisher<T> source, Function<? super T, ? extends R> function) {
+    this.source = source;
+    this.function = function;
+  }
+
+  public <U> FusedPublisher<T, U> map(Function<? super R, ? extends U> mapper) {
+    Objects.requireNonNull(mapper);
+    return new FusedPublisher<>(
+        source,
+        item -> {
+          R result = function.apply(item);
+          return result == null ? null : Objects.requireNonNull(mapper.apply(result));
+        });
+  }
+
+  public FusedPublisher<T, R> filter(Predicate<? super R> predicate) {
+    Objects.requireNonNull(predicate);
+    return new FusedPublisher<>(
+        source,
+        item -> {
+          R result = function.apply(item);
+          return result == null || !predicate.test(result) ? null : result;
+        });
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super R> subscriber) {
+    source.subscribe(subscriber, function);
+  }
+}
@@ -0,0 +1,237 @@
+package multithreading.flow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import multithreading.interthreadcommunication.Channel;
+import multithreading.interthreadcommunication.MonitorQueue;
+
+/**
+ * 10 000 subscribers on 4 threads each get 1 000 items from a {@link FlowPublisher}, as {@link
+ * BatchSubscriber}s. With a consumer thread each it would take 10 000 threads.
+ *
+ * <p>Then a slow subscriber which requests one item at a time, the producer has to wait for it once
+ * its buffer of 8 items is full. At last a map(), filter(), map() pipeline fused into the drain
+ * task of its subscriber. And producer threads which put() into a {@link Channel}, published to 1
+ * 000 subscribers by a single thread.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 20 : 46 : 33)
+ */
+public class MyFlow {
+  private static final int SUBSCRIBERS = 10_000;
+  private static final int ITEMS = 1_000;
+  private static final int THREADS = 4;
+
+  public static void main(String[] args) throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    System.out.println("****" + SUBSCRIBERS + " subscribers on " + THREADS + " threads****\n");
+    fanOut(executor);
+
+    System.out.println("\n****Backpressure from a slow subscriber****\n");
+    backpressure(executor);
+
+    System.out.println("\n****Fused map, filter, map****\n");
+    fused(executor);
+
+    System.out.println("\n****Producers on a Channel****\n");
+    fromChannel(executor);
+
+    executor.shutdown();
+  }
+
+  private static void fanOut(ExecutorService executor) throws InterruptedException {
+    FlowPublisher<Integer> publisher = new FlowPublisher<>(executor, 64);
+    CountDownLatch completed = new CountDownLatch(SUBSCRIBERS);
+    LongAdder received = new LongAdder();
+    LongAdder batches = new LongAdder();
+    for (int i = 0; i < SUBSCRIBERS; i++) {
+      publisher.subscribe(
+          new BatchSubscriber<Integer>(32) {
+            @Override
+            protected void onBatch(List<Integer> items) {
+              received.add(items.size());
+              batches.increment();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+              throwable.printStackTrace();
+              completed.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+              completed.countDown();
+            }
+          });
+    }
+
+    long start = System.nanoTime();
+    for (int i = 0; i < ITEMS; i++) {
+      publisher.put(i);
+    }
+    publisher.close();
+    completed.await();
+    long elapsed = System.nanoTime() - start;
+    System.out.printf(
+        "%d items delivered in %d ms, %.1f items per onBatch() call%n",
+        received.sum(),
+        TimeUnit.NANOSECONDS.toMillis(elapsed),
+        received.doubleValue() / batches.sum());
+    System.out.println("Threads used : " + THREADS);
+  }
+
+  private static void backpressure(ExecutorService executor) throws InterruptedException {
+    FlowPublisher<Integer> publisher = new FlowPublisher<>(executor, 8);
+    CountDownLatch completed = new CountDownLatch(1);
+    publisher.subscribe(
+        new Flow.Subscriber<Integer>() {
+          private Flow.Subscription subscription;
+
+          @Override
+          public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+          }
+
+          @Override
+          public void onNext(Integer item) {
+            try {
+              // 1 ms per item
+              Thread.sleep(1);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            subscription.request(1);
+          }
+
+          @Override
+          public void onError(Throwable throwable) {
+            throwable.printStackTrace();
+            completed.countDown();
+          }
+
+          @Override
+          public void onComplete() {
+            completed.countDown();
+          }
+        });
+
+    long start = System.nanoTime();
+    for (int i = 0; i < 100; i++) {
+      publisher.put(i);
+    }
+    long putElapsed = System.nanoTime() - start;
+    publisher.close();
+    completed.await();
+    System.out.printf(
+        "100 items put in %d ms, the subscriber takes 1 ms per item and buffers 8%n",
+        TimeUnit.NANOSECONDS.toMillis(putElapsed));
+  }
+
+  private static void fused(ExecutorService executor) throws InterruptedException {
+    FlowPublisher<Integer> publisher = new FlowPublisher<>(executor, 64);
+    CountDownLatch completed = new CountDownLatch(1);
+    List<String> squares = new ArrayList<>();
+    publisher
+        .map(i -> i * i)
+        .filter(square -> square % 2 == 0)
+        .map(String::valueOf)
+        .subscribe(
+            new BatchSubscriber<String>(16) {
+              @Override
+              protected void onBatch(List<String> items) {
+                squares.addAll(items);
+              }
+
+              @Override
+              public void onError(Throwable throwable) {
+                throwable.printStackTrace();
+                completed.countDown();
+              }
+
+              @Override
+              public void onComplete() {
+                completed.countDown();
+              }
+            });
+
+    for (int i = 0; i < 20; i++) {
+      publisher.put(i);
+    }
+    publisher.close();
+    completed.await();
+    System.out.println("Even squares of 0 to 19 : " + squares);
+  }
+
+  private static void fromChannel(ExecutorService executor) throws InterruptedException {
+    Channel<Integer> channel = new MonitorQueue<>(16);
+    FlowPublisher<Integer> publisher = new FlowPublisher<>(executor, 64);
+    int subscribers = 1_000;
+    int producers = 2;
+    CountDownLatch receivedAll = new CountDownLatch(subscribers);
+    for (int i = 0; i < subscribers; i++) {
+      publisher.subscribe(
+          new BatchSubscriber<Integer>(32) {
+            private int received;
+
+            @Override
+            protected void onBatch(List<Integer> items) {
+              received += items.size();
+              if (received == producers * ITEMS) {
+                receivedAll.countDown();
+              }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+              throwable.printStackTrace();
+            }
+
+            @Override
+            public void onComplete() {}
+          });
+    }
+
+    Thread pump = new Thread(() -> publisher.publishFrom(channel), "channel-publisher");
+    pump.start();
+    List<Thread> producerThreads = new ArrayList<>();
+    for (int i = 0; i < producers; i++) {
+      Thread producer =
+          new Thread(
+              () -> {
+                try {
+                  for (int item = 0; item < ITEMS; item++) {
+                    channel.put(item);
+                  }
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+              },
+              "producer-" + i);
+      producerThreads.add(producer);
+      producer.start();
+    }
+    for (Thread producer : producerThreads) {
+      producer.join();
+    }
+    receivedAll.await();
+    pump.interrupt();
+    pump.join();
+    publisher.close();
+    System.out.println(
+        producers
+            + " producers put "
+            + producers * ITEMS
+            + " items into the channel, each of the "
+            + subscribers
+            + " subscribers got them all through one publishing thread");
+  }
+}
@@ -0,0 +1,247 @@
+package multithreading.forkjoin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Divide and conquer engine for data parallel map, reduce and sort over large arrays and lists.
+ *
+ * <p>Every operation is split into {@link java.util.concurrent.RecursiveTask}/{@link
+ * java.util.concurrent.RecursiveAction} pieces which run on a <b>dedicated</b> {@link
+ * ForkJoinPool}, so a long batch job never competes with {@code CompletableFuture.supplyAsync()}
+ * callbacks running on {@code ForkJoinPool.commonPool()}.
+ *
+ * <p>Splitting is adaptive :- a task keeps splitting only while its worker has few queued tasks
+ * left for the others to steal ({@link
+ * java.util.concurrent.ForkJoinTask#getSurplusQueuedTaskCount()} is small). When the other workers
+ * are already busy there is no point in creating more tasks, so the range is processed directly.
+ * Ranges below the minimum chunk are never split and ranges above a maximum chunk (derived from the
+ * input size and the parallelism) are always split, so one unlucky worker can't end up with a huge
+ * serial leaf.
+ *
+ * <p>int, long and double arrays have their own overloads which work on the primitive arrays
+ * directly, i.e. no boxing per element.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 12 : 05 : 10)
+ */
+public class ForkJoinEngine implements AutoCloseable {
+  /** Default size below which a range is never split. */
+  public static final int DEFAULT_MIN_CHUNK = 1 << 12;
+
+  private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+  private final ForkJoinPool pool;
+  private final int minChunk;
+
+  /** Creates an engine with one worker per available processor. */
+  public ForkJoinEngine() {
+    this(Runtime.getRuntime().availableProcessors(), DEFAULT_MIN_CHUNK);
+  }
+
+  public ForkJoinEngine(int parallelism, int minChunk) {
+    if (minChunk < 1) {
+      throw new IllegalArgumentException("minChunk must be positive : " + minChunk);
+    }
+    this.minChunk = minChunk;
+    this.pool = new ForkJoinPool(parallelism, new EngineThreadFactory(), null, false);
+  }
+
+  public int getParallelism() {
+    return pool.getParallelism();
+  }
+
+  // ----------------------------------------------------------------------------------------------
+  // Map
+  // ----------------------------------------------------------------------------------------------
+
+  /** Applies the function to every element and returns the results in a new array. */
+  public <T, R> R[] map(
+      T[] source, Function<? super T, ? extends R> mapper, IntFunction<R[]> generator) {
+    R[] target = generator.apply(source.length);
+    pool.invoke(new MapTask<>(split(source.length), source, target, mapper, 0, source.length));
+    return target;
+  }
+
+  /** Applies the function to every element and returns the results in a new, resizable list. */
+  @SuppressWarnings("unchecked")
+  public <T, R> List<R> map(List<? extends T> source, Function<? super T, ? extends R> mapper) {
+    Object[] elements = source.toArray();
+    Object[] target = new Object[elements.length];
+    pool.invoke(
+        new MapTask<>(
+            split(elements.length),
+            elements,
+            target,
+            (Function<Object, Object>) mapper,
+            0,
+            elements.length));
+    return new ArrayList<>((List<R>) Arrays.asList(target));
+  }
+
+  public int[] map(int[] source, IntUnaryOperator mapper) {
+    int[] target = new int[source.length];
+    pool.invoke(
+        new MapTask.IntMapTask(split(source.length), source, target, mapper, 0, source.length));
+    return target;
+  }
+
+  public long[] map(long[] source, LongUnaryOperator mapper) {
+    long[] target = new long[source.length];
+    pool.invoke(
+        new MapTask.LongMapTask(split(source.length), source, target, mapper, 0, source.length));
+    return target;
+  }
+
+  public double[] map(double[] source, DoubleUnaryOperator mapper) {
+    double[] target = new double[source.length];
+    pool.invoke(
+        new MapTask.DoubleMapTask(split(source.length), source, target, mapper, 0, source.length));
+    return target;
+  }
+
+  // ----------------------------------------------------------------------------------------------
+  // Reduce, the operator must be associative and identity must be its identity element
+  // ----------------------------------------------------------------------------------------------
+
+  public <T> T reduce(T[] source, T identity, BinaryOperator<T> operator) {
+    return pool.invoke(
+        new ReduceTask<>(split(source.length), source, identity, operator, 0, source.length));
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T reduce(List<? extends T> source, T identity, BinaryOperator<T> operator) {
+    if (source instanceof RandomAccess) {
+      return pool.invoke(
+          new ReduceTask.ListReduceTask<>(
+              split(source.size()), source, identity, operator, 0, source.size()));
+    }
+    return reduce((T[]) source.toArray(), identity, operator);
+  }
+
+  public int reduce(int[] source, int identity, IntBinaryOperator operator) {
+    return pool.invoke(
+        new ReduceTask.IntReduceTask(
+            split(source.length), source, identity, operator, 0, source.length));
+  }
+
+  public long reduce(long[] source, long identity, LongBinaryOperator operator) {
+    return pool.invoke(
+        new ReduceTask.LongReduceTask(
+            split(source.length), source, identity, operator, 0, source.length));
+  }
+
+  public double reduce(double[] source, double identity, DoubleBinaryOperator operator) {
+    return pool.invoke(
+        new ReduceTask.DoubleReduceTask(
+            split(source.length), source, identity, operator, 0, source.length));
+  }
+
+  // ----------------------------------------------------------------------------------------------
+  // Sort, a parallel merge sort which sorts the leaves with Arrays.sort() (stable for objects)
+  // ----------------------------------------------------------------------------------------------
+
+  public <T> void sort(T[] array, Comparator<? super T> comparator) {
+    if (array.length <= minChunk) {
+      Arrays.sort(array, comparator);
+      return;
+    }
+    T[] buffer = Arrays.copyOf(array, array.length);
+    pool.invoke(
+        new MergeSortTask<>(split(array.length), array, buffer, comparator, 0, array.length, true));
+  }
+
+  /** Sorts the list in place, like {@link List#sort(Comparator)}. */
+  @SuppressWarnings("unchecked")
+  public <T> void sort(List<T> list, Comparator<? super T> comparator) {
+    T[] elements = (T[]) list.toArray();
+    sort(elements, comparator);
+    ListIterator<T> iterator = list.listIterator();
+    for (T element : elements) {
+      iterator.next();
+      iterator.set(element);
+    }
+  }
+
+  public void sort(int[] array) {
+    if (array.length <= minChunk) {
+      Arrays.sort(array);
+      return;
+    }
+    pool.invoke(
+        new MergeSortTask.IntMergeSortTask(
+            split(array.length), array, new int[array.length], 0, array.length, true));
+  }
+
+  public void sort(long[] array) {
+    if (array.length <= minChunk) {
+      Arrays.sort(array);
+      return;
+    }
+    pool.invoke(
+        new MergeSortTask.LongMergeSortTask(
+            split(array.length), array, new long[array.length], 0, array.length, true));
+  }
+
+  public void sort(double[] array) {
+    if (array.length <= minChunk) {
+      Arrays.sort(array);
+      return;
+    }
+    pool.invoke(
+        new MergeSortTask.DoubleMergeSortTask(
+            split(array.length), array, new double[array.length], 0, array.length, true));
+  }
+
+  // ----------------------------------------------------------------------------------------------
+  // Lifecycle
+  // ----------------------------------------------------------------------------------------------
+
+  public void shutdown() {
+    pool.shutdown();
+  }
+
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return pool.awaitTermination(timeout, unit);
+  }
+
+  @Override
+  public void close() {
+    shutdown();
+  }
+
+  private Split split(int size) {
+    return new Split(size, getParallelism(), minChunk);
+  }
+
+  /** Names the workers after the engine so they are easy to spot in a thread dump. */
+  private static class EngineThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+    private final int poolNumber = POOL_NUMBER.incrementAndGet();
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    @Override
+    public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+      ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      thread.setName(
+          "fork-join-engine-" + poolNumber + "-worker-" + threadNumber.incrementAndGet());
+      return thread;
+    }
+  }
+}
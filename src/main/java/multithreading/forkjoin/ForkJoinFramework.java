@@ -0,0 +1,71 @@
+package multithreading.forkjoin;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Fork/Join framework (java 7) is an implementation of the ExecutorService which is designed for
+ * work that can be broken into smaller pieces recursively (divide and conquer).
+ *
+ * <p>1. Fork :- a task splits itself into smaller subtasks which can be executed concurrently.
+ *
+ * <p>2. Join :- the results of the subtasks are joined (combined) into a single result.
+ *
+ * <p>ForkJoinPool :- every worker thread has its own double ended queue of tasks. A worker takes
+ * tasks from the head of its own queue and an idle worker <b>steals</b> tasks from the tail of
+ * another worker's queue (work stealing), so all workers stay busy without a shared queue.
+ *
+ * <p>RecursiveTask returns a result from compute() and RecursiveAction doesn't return anything.
+ *
+ * <p>{@link ForkJoinEngine} uses these to run map, reduce and sort over large arrays on its own
+ * pool.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 12 : 05 : 10)
+ */
+public class ForkJoinFramework {
+  private static final int SIZE = 20_000_000;
+
+  public static void main(String[] args) {
+    long[] numbers = new Random(42).longs(SIZE, 0, 1_000_000).toArray();
+
+    try (ForkJoinEngine engine = new ForkJoinEngine()) {
+      System.out.println("Parallelism : " + engine.getParallelism() + "\n");
+
+      System.out.println("****Map****");
+      long start = System.currentTimeMillis();
+      long[] sequentialSquares = Arrays.stream(numbers).map(n -> n * n).toArray();
+      System.out.println("Sequential : " + (System.currentTimeMillis() - start) + " ms");
+
+      start = System.currentTimeMillis();
+      long[] squares = engine.map(numbers, n -> n * n);
+      System.out.println("ForkJoinEngine : " + (System.currentTimeMillis() - start) + " ms");
+      System.out.println("Same result : " + Arrays.equals(sequentialSquares, squares));
+
+      System.out.println("\n****Reduce****");
+      start = System.currentTimeMillis();
+      long sequentialSum = 0;
+      for (long number : numbers) {
+        sequentialSum += number;
+      }
+      System.out.println("Sequential : " + (System.currentTimeMillis() - start) + " ms");
+
+      start = System.currentTimeMillis();
+      long sum = engine.reduce(numbers, 0L, Long::sum);
+      System.out.println("ForkJoinEngine : " + (System.currentTimeMillis() - start) + " ms");
+      System.out.println("Same result : " + (sequentialSum == sum));
+
+      System.out.println("\n****Sort****");
+      long[] sequentialSorted = numbers.clone();
+      start = System.currentTimeMillis();
+      Arrays.sort(sequentialSorted);
+      System.out.println("Sequential : " + (System.currentTimeMillis() - start) + " ms");
+
+      long[] sorted = numbers.clone();
+      start = System.currentTimeMillis();
+      engine.sort(sorted);
+      System.out.println("ForkJoinEngine : " + (System.currentTimeMillis() - start) + " ms");
+      System.out.println("Same result : " + Arrays.equals(sequentialSorted, sorted));
+    }
+  }
+}
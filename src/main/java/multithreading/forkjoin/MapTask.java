@@ -0,0 +1,164 @@
+package multithreading.forkjoin;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Maps source[from, to) into target[from, to). Every task writes a disjoint range of the target
+ * array, and join() makes those writes visible to the caller, so no extra synchronization is
+ * needed.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 12 : 05 : 10)
+ */
+class MapTask<T, R> extends RecursiveAction {
+  private static final long serialVersionUID = 1L;
+
+  private final Split split;
+  private final T[] source;
+  private final R[] target;
+  private final Function<? super T, ? extends R> mapper;
+  private final int from;
+  private final int to;
+
+  MapTask(
+      Split split,
+      T[] source,
+      R[] target,
+      Function<? super T, ? extends R> mapper,
+      int from,
+      int to) {
+    this.split = split;
+    this.source = source;
+    this.target = target;
+    this.mapper = mapper;
+    this.from = from;
+    this.to = to;
+  }
+
+  @Override
+  protected void compute() {
+    if (split.shouldSplit(from, to)) {
+      int mid = (from + to) >>> 1;
+      invokeAll(
+          new MapTask<>(split, source, target, mapper, from, mid),
+          new MapTask<>(split, source, target, mapper, mid, to));
+      return;
+    }
+    for (int i = from; i < to; i++) {
+      target[i] = mapper.apply(source[i]);
+    }
+  }
+
+  static final class IntMapTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final Split split;
+    private final int[] source;
+    private final int[] target;
+    private final IntUnaryOperator mapper;
+    private final int from;
+    private final int to;
+
+    IntMapTask(Split split, int[] source, int[] target, IntUnaryOperator mapper, int from, int to) {
+      this.split = split;
+      this.source = source;
+      this.target = target;
+      this.mapper = mapper;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (split.shouldSplit(from, to)) {
+        int mid = (from + to) >>> 1;
+        invokeAll(
+            new IntMapTask(split, source, target, mapper, from, mid),
+            new IntMapTask(split, source, target, mapper, mid, to));
+        return;
+      }
+      for (int i = from; i < to; i++) {
+        target[i] = mapper.applyAsInt(source[i]);
+      }
+    }
+  }
+
+  static final class LongMapTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final Split split;
+    private final long[] source;
+    private final long[] target;
+    private final LongUnaryOperator mapper;
+    private final int from;
+    private final int to;
+
+    LongMapTask(
+        Split split, long[] source, long[] target, LongUnaryOperator mapper, int from, int to) {
+      this.split = split;
+      this.source = source;
+      this.target = target;
+      this.mapper = mapper;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (split.shouldSplit(from, to)) {
+        int mid = (from + to) >>> 1;
+        invokeAll(
+            new LongMapTask(split, source, target, mapper, from, mid),
+            new LongMapTask(split, source, target, mapper, mid, to));
+        return;
+      }
+      for (int i = from; i < to; i++) {
+        target[i] = mapper.applyAsLong(source[i]);
+      }
+    }
+  }
+
+  static final class DoubleMapTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final Split split;
+    private final double[] source;
+    private final double[] target;
+    private final DoubleUnaryOperator mapper;
+    private final int from;
+    private final int to;
+
+    DoubleMapTask(
+        Split split,
+        double[] source,
+        double[] target,
+        DoubleUnaryOperator mapper,
+        int from,
+        int to) {
+      this.split = split;
+      this.source = source;
+      this.target = target;
+      this.mapper = mapper;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (split.shouldSplit(from, to)) {
+        int mid = (from + to) >>> 1;
+        invokeAll(
+            new DoubleMapTask(split, source, target, mapper, from, mid),
+            new DoubleMapTask(split, source, target, mapper, mid, to));
+        return;
+      }
+      for (int i = from; i < to; i++) {
+        target[i] = mapper.applyAsDouble(source[i]);
+      }
+    }
+  }
+}
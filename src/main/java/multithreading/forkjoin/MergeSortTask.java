@@ -0,0 +1,215 @@
+package multithreading.forkjoin;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel merge sort of array[from, to), using a buffer of the same length.
+ *
+ * <p>Instead of merging into the buffer and copying back at every level, the two halves are sorted
+ * into the <b>other</b> array and then merged into the destination of this task, so every level
+ * moves the data only once. Leaves always sort in place inside the original array (nothing has been
+ * written to their range yet) and copy to the buffer only when the buffer is their destination.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 12 : 05 : 10)
+ */
+class MergeSortTask<T> extends RecursiveAction {
+  private static final long serialVersionUID = 1L;
+
+  private final Split split;
+  private final T[] array;
+  private final T[] buffer;
+  private final Comparator<? super T> comparator;
+  private final int from;
+  private final int to;
+  private final boolean intoArray;
+
+  MergeSortTask(
+      Split split,
+      T[] array,
+      T[] buffer,
+      Comparator<? super T> comparator,
+      int from,
+      int to,
+      boolean intoArray) {
+    this.split = split;
+    this.array = array;
+    this.buffer = buffer;
+    this.comparator = comparator;
+    this.from = from;
+    this.to = to;
+    this.intoArray = intoArray;
+  }
+
+  @Override
+  protected void compute() {
+    if (!split.shouldSplit(from, to)) {
+      Arrays.sort(array, from, to, comparator);
+      if (!intoArray) {
+        System.arraycopy(array, from, buffer, from, to - from);
+      }
+      return;
+    }
+    int mid = (from + to) >>> 1;
+    invokeAll(
+        new MergeSortTask<>(split, array, buffer, comparator, from, mid, !intoArray),
+        new MergeSortTask<>(split, array, buffer, comparator, mid, to, !intoArray));
+
+    T[] source = intoArray ? buffer : array;
+    T[] target = intoArray ? array : buffer;
+    int left = from;
+    int right = mid;
+    int index = from;
+    while (left < mid && right < to) {
+      // <= keeps equal elements in their original order, i.e. the sort stays stable
+      target[index++] =
+          comparator.compare(source[left], source[right]) <= 0 ? source[left++] : source[right++];
+    }
+    System.arraycopy(source, left, target, index, mid - left);
+    System.arraycopy(source, right, target, index + mid - left, to - right);
+  }
+
+  static final class IntMergeSortTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final Split split;
+    private final int[] array;
+    private final int[] buffer;
+    private final int from;
+    private final int to;
+    private final boolean intoArray;
+
+    IntMergeSortTask(Split split, int[] array, int[] buffer, int from, int to, boolean intoArray) {
+      this.split = split;
+      this.array = array;
+      this.buffer = buffer;
+      this.from = from;
+      this.to = to;
+      this.intoArray = intoArray;
+    }
+
+    @Override
+    protected void compute() {
+      if (!split.shouldSplit(from, to)) {
+        Arrays.sort(array, from, to);
+        if (!intoArray) {
+          System.arraycopy(array, from, buffer, from, to - from);
+        }
+        return;
+      }
+      int mid = (from + to) >>> 1;
+      invokeAll(
+          new IntMergeSortTask(split, array, buffer, from, mid, !intoArray),
+          new IntMergeSortTask(split, array, buffer, mid, to, !intoArray));
+
+      int[] source = intoArray ? buffer : array;
+      int[] target = intoArray ? array : buffer;
+      int left = from;
+      int right = mid;
+      int index = from;
+      while (left < mid && right < to) {
+        target[index++] = source[left] <= source[right] ? source[left++] : source[right++];
+      }
+      System.arraycopy(source, left, target, index, mid - left);
+      System.arraycopy(source, right, target, index + mid - left, to - right);
+    }
+  }
+
+  static final class LongMergeSortTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final Split split;
+    private final long[] array;
+    private final long[] buffer;
+    private final int from;
+    private final int to;
+    private final boolean intoArray;
+
+    LongMergeSortTask(
+        Split split, long[] array, long[] buffer, int from, int to, boolean intoArray) {
+      this.split = split;
+      this.array = array;
+      this.buffer = buffer;
+      this.from = from;
+      this.to = to;
+      this.intoArray = intoArray;
+    }
+
+    @Override
+    protected void compute() {
+      if (!split.shouldSplit(from, to)) {
+        Arrays.sort(array, from, to);
+        if (!intoArray) {
+          System.arraycopy(array, from, buffer, from, to - from);
+        }
+        return;
+      }
+      int mid = (from + to) >>> 1;
+      invokeAll(
+          new LongMergeSortTask(split, array, buffer, from, mid, !intoArray),
+          new LongMergeSortTask(split, array, buffer, mid, to, !intoArray));
+
+      long[] source = intoArray ? buffer : array;
+      long[] target = intoArray ? array : buffer;
+      int left = from;
+      int right = mid;
+      int index = from;
+      while (left < mid && right < to) {
+        target[index++] = source[left] <= source[right] ? source[left++] : source[right++];
+      }
+      System.arraycopy(source, left, target, index, mid - left);
+      System.arraycopy(source, right, target, index + mid - left, to - right);
+    }
+  }
+
+  static final class DoubleMergeSortTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final Split split;
+    private final double[] array;
+    private final double[] buffer;
+    private final int from;
+    private final int to;
+    private final boolean intoArray;
+
+    DoubleMergeSortTask(
+        Split split, double[] array, double[] buffer, int from, int to, boolean intoArray) {
+      this.split = split;
+      this.array = array;
+      this.buffer = buffer;
+      this.from = from;
+      this.to = to;
+      this.intoArray = intoArray;
+    }
+
+    @Override
+    protected void compute() {
+      if (!split.shouldSplit(from, to)) {
+        Arrays.sort(array, from, to);
+        if (!intoArray) {
+          System.arraycopy(array, from, buffer, from, to - from);
+        }
+        return;
+      }
+      int mid = (from + to) >>> 1;
+      invokeAll(
+          new DoubleMergeSortTask(split, array, buffer, from, mid, !intoArray),
+          new DoubleMergeSortTask(split, array, buffer, mid, to, !intoArray));
+
+      double[] source = intoArray ? buffer : array;
+      double[] target = intoArray ? array : buffer;
+      int left = from;
+      int right = mid;
+      int index = from;
+      while (left < mid && right < to) {
+        // Double.compare() gives the same total order as Arrays.sort(), i.e. -0.0 < 0.0 < NaN
+        target[index++] =
+            Double.compare(source[left], source[right]) <= 0 ? source[left++] : source[right++];
+      }
+      System.arraycopy(source, left, target, index, mid - left);
+      System.arraycopy(source, right, target, index + mid - left, to - right);
+    }
+  }
+}
@@ -0,0 +1,212 @@
+package multithreading.forkjoin;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Reduces source[from, to) with an associative operator.
+ *
+ * <p>The left half is forked, so it can be stolen by an idle worker, while the current worker goes
+ * on with the right half itself, then both results are combined in order.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 12 : 05 : 10)
+ */
+class ReduceTask<T> extends RecursiveTask<T> {
+  private static final long serialVersionUID = 1L;
+
+  private final Split split;
+  private final T[] source;
+  private final T identity;
+  private final BinaryOperator<T> operator;
+  private final int from;
+  private final int to;
+
+  ReduceTask(Split split, T[] source, T identity, BinaryOperator<T> operator, int from, int to) {
+    this.split = split;
+    this.source = source;
+    this.identity = identity;
+    this.operator = operator;
+    this.from = from;
+    this.to = to;
+  }
+
+  @Override
+  protected T compute() {
+    if (split.shouldSplit(from, to)) {
+      int mid = (from + to) >>> 1;
+      ReduceTask<T> left = new ReduceTask<>(split, source, identity, operator, from, mid);
+      left.fork();
+      T right = new ReduceTask<>(split, source, identity, operator, mid, to).compute();
+      return operator.apply(left.join(), right);
+    }
+    T result = identity;
+    for (int i = from; i < to; i++) {
+      result = operator.apply(result, source[i]);
+    }
+    return result;
+  }
+
+  /** Same as {@link ReduceTask} but reads a {@link java.util.RandomAccess} list without copying. */
+  static final class ListReduceTask<T> extends RecursiveTask<T> {
+    private static final long serialVersionUID = 1L;
+
+    private final Split split;
+    private final List<? extends T> source;
+    private final T identity;
+    private final BinaryOperator<T> operator;
+    private final int from;
+    private final int to;
+
+    ListReduceTask(
+        Split split,
+        List<? extends T> source,
+        T identity,
+        BinaryOperator<T> operator,
+        int from,
+        int to) {
+      this.split = split;
+      this.source = source;
+      this.identity = identity;
+      this.operator = operator;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected T compute() {
+      if (split.shouldSplit(from, to)) {
+        int mid = (from + to) >>> 1;
+        ListReduceTask<T> left = new ListReduceTask<>(split, source, identity, operator, from, mid);
+        left.fork();
+        T right = new ListReduceTask<>(split, source, identity, operator, mid, to).compute();
+        return operator.apply(left.join(), right);
+      }
+      T result = identity;
+      for (int i = from; i < to; i++) {
+        result = operator.apply(result, source.get(i));
+      }
+      return result;
+    }
+  }
+
+  static final class IntReduceTask extends RecursiveTask<Integer> {
+    private static final long serialVersionUID = 1L;
+
+    private final Split split;
+    private final int[] source;
+    private final int identity;
+    private final IntBinaryOperator operator;
+    private final int from;
+    private final int to;
+
+    IntReduceTask(
+        Split split, int[] source, int identity, IntBinaryOperator operator, int from, int to) {
+      this.split = split;
+      this.source = source;
+      this.identity = identity;
+      this.operator = operator;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Integer compute() {
+      if (split.shouldSplit(from, to)) {
+        int mid = (from + to) >>> 1;
+        IntReduceTask left = new IntReduceTask(split, source, identity, operator, from, mid);
+        left.fork();
+        int right = new IntReduceTask(split, source, identity, operator, mid, to).compute();
+        return operator.applyAsInt(left.join(), right);
+      }
+      int result = identity;
+      for (int i = from; i < to; i++) {
+        result = operator.applyAsInt(result, source[i]);
+      }
+      return result;
+    }
+  }
+
+  static final class LongReduceTask extends RecursiveTask<Long> {
+    private static final long serialVersionUID = 1L;
+
+    private final Split split;
+    private final long[] source;
+    private final long identity;
+    private final LongBinaryOperator operator;
+    private final int from;
+    private final int to;
+
+    LongReduceTask(
+        Split split, long[] source, long identity, LongBinaryOperator operator, int from, int to) {
+      this.split = split;
+      this.source = source;
+      this.identity = identity;
+      this.operator = operator;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Long compute() {
+      if (split.shouldSplit(from, to)) {
+        int mid = (from + to) >>> 1;
+        LongReduceTask left = new LongReduceTask(split, source, identity, operator, from, mid);
+        left.fork();
+        long right = new LongReduceTask(split, source, identity, operator, mid, to).compute();
+        return operator.applyAsLong(left.join(), right);
+      }
+      long result = identity;
+      for (int i = from; i < to; i++) {
+        result = operator.applyAsLong(result, source[i]);
+      }
+      return result;
+    }
+  }
+
+  static final class DoubleReduceTask extends RecursiveTask<Double> {
+    private static final long serialVersionUID = 1L;
+
+    private final Split split;
+    private final double[] source;
+    private final double identity;
+    private final DoubleBinaryOperator operator;
+    private final int from;
+    private final int to;
+
+    DoubleReduceTask(
+        Split split,
+        double[] source,
+        double identity,
+        DoubleBinaryOperator operator,
+        int from,
+        int to) {
+      this.split = split;
+      this.source = source;
+      this.identity = identity;
+      this.operator = operator;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Double compute() {
+      if (split.shouldSplit(from, to)) {
+        int mid = (from + to) >>> 1;
+        DoubleReduceTask left = new DoubleReduceTask(split, source, identity, operator, from, mid);
+        left.fork();
+        double right = new DoubleReduceTask(split, source, identity, operator, mid, to).compute();
+        return operator.applyAsDouble(left.join(), right);
+      }
+      double result = identity;
+      for (int i = from; i < to; i++) {
+        result = operator.applyAsDouble(result, source[i]);
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package multithreading.forkjoin;
+
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Adaptive splitting policy shared by all the tasks of one {@link ForkJoinEngine} operation.
+ *
+ * <p>Based on the heuristic from Doug Lea's fork/join paper :- keep splitting while the current
+ * worker has at most {@link #SURPLUS_THRESHOLD} more queued tasks than the other workers could
+ * steal, otherwise process the range directly.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 12 : 05 : 10)
+ */
+final class Split {
+  static final int SURPLUS_THRESHOLD = 3;
+
+  /** Every worker should get at least this many leaves of the maximum size. */
+  private static final int LEAVES_PER_WORKER = 8;
+
+  private final int minChunk;
+  private final int maxChunk;
+
+  Split(int size, int parallelism, int minChunk) {
+    this.minChunk = minChunk;
+    this.maxChunk = Math.max(minChunk, size / (parallelism * LEAVES_PER_WORKER));
+  }
+
+  boolean shouldSplit(int from, int to) {
+    int size = to - from;
+    if (size <= minChunk) {
+      return false;
+    }
+    return size > maxChunk || ForkJoinTask.getSurplusQueuedTaskCount() <= SURPLUS_THRESHOLD;
+  }
+}
@@ -0,0 +1,56 @@
+package multithreading.interthreadcommunication;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What producers and consumers need from the queue between them :- blocking and timed put and take.
+ * {@link MonitorQueue} implements it and of() adapts any BlockingQueue, so a {@link LoadGenerator}
+ * (or a benchmark) can drive every implementation the same way.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 19 : 04 : 37)
+ */
+public interface Channel<E> {
+  /** Adds the element, waiting while the channel is full. */
+  void put(E element) throws InterruptedException;
+
+  /** Adds the element, waiting at most the timeout while the channel is full. */
+  boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException;
+
+  /** Removes the oldest element, waiting while the channel is empty. */
+  E take() throws InterruptedException;
+
+  /** Removes the oldest element, waiting at most the timeout, returns null if there is none. */
+  E poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+  /**
+   * Hands over what the calling producer has buffered, for channels which don't hand over every
+   * element right away (like {@link DoubleBuffer}). Nothing to do for the others.
+   */
+  default void flush() throws InterruptedException {}
+
+  static <E> Channel<E> of(BlockingQueue<E> queue) {
+    return new Channel<E>() {
+      @Override
+      public void put(E element) throws InterruptedException {
+        queue.put(element);
+      }
+
+      @Override
+      public boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException {
+        return queue.offer(element, timeout, unit);
+      }
+
+      @Override
+      public E take() throws InterruptedException {
+        return queue.take();
+      }
+
+      @Override
+      public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return queue.poll(timeout, unit);
+      }
+    };
+  }
+}
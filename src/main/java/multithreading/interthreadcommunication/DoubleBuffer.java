@@ -0,0 +1,205 @@
+package multithreading.interthreadcommunication;
+
+import java.util.Arrays;
+import java.util.concurrent.Exchanger;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Handoff between one producer and one consumer which swap whole buffers instead of single elements
+ * :- the producer fills one preallocated buffer while the consumer drains the other, then they swap
+ * them through an {@link Exchanger}.
+ *
+ * <p>{@link MonitorQueue} synchronizes (and may wake up the other thread) for every element, here
+ * it happens once per buffer, and adding or taking an element is a plain array access with no
+ * allocation, the two buffers are reused for ever.
+ *
+ * <p><b>Partial flushes</b> :- a buffer is handed over when it is full, or, with a maxDelay, when
+ * its first element has waited that long and the consumer is idle waiting for it. When the consumer
+ * is busy the producer keeps filling, so batches are small under light load and as big as the
+ * buffer under heavy load. The producer only checks the delay when it adds an element, when it goes
+ * idle it has to call flush().
+ *
+ * <p>Only for exactly one producer thread and one consumer thread, the Exchanger would pair two
+ * producers with each other.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 20 : 21 : 09)
+ */
+public class DoubleBuffer<E> implements Channel<E> {
+  private final Exchanger<Buffer> exchanger = new Exchanger<>();
+  private final long maxDelayNanos;
+  private final AtomicLong exchanges = new AtomicLong();
+
+  /** Used by the producer only. */
+  private Buffer filling;
+
+  private long flushAt;
+
+  /** Used by the consumer only, next is the index of the next element to take. */
+  private Buffer draining;
+
+  private int next;
+
+  /** Buffers are only handed over when they are full (or flushed). */
+  public DoubleBuffer(int capacity) {
+    this(capacity, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @param maxDelay how long an element may wait for its buffer to fill up
+   */
+  public DoubleBuffer(int capacity, long maxDelay, TimeUnit unit) {
+    if (capacity <= 0 || maxDelay < 0) {
+      throw new IllegalArgumentException("capacity must be positive and maxDelay not negative");
+    }
+    this.maxDelayNanos = unit.toNanos(maxDelay);
+    this.filling = new Buffer(capacity);
+    this.draining = new Buffer(capacity);
+  }
+
+  /** Producer :- adds the element, waiting for the consumer while both buffers are full. */
+  @Override
+  public void put(E element) throws InterruptedException {
+    if (filling.isFull()) {
+      filling = exchanger.exchange(filling);
+    }
+    add(element);
+  }
+
+  /** Producer :- adds the element, waiting at most the timeout for the consumer if it is full. */
+  @Override
+  public boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException {
+    if (filling.isFull()) {
+      try {
+        filling = exchanger.exchange(filling, timeout, unit);
+      } catch (TimeoutException e) {
+        return false;
+      }
+    }
+    add(element);
+    return true;
+  }
+
+  /** Producer :- hands over the elements added so far, waiting for the consumer to take them. */
+  @Override
+  public void flush() throws InterruptedException {
+    if (filling.size > 0) {
+      filling = exchanger.exchange(filling);
+    }
+  }
+
+  /** Producer :- like flush(), returns false if the consumer didn't come within the timeout. */
+  public boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+    if (filling.size > 0) {
+      try {
+        filling = exchanger.exchange(filling, timeout, unit);
+      } catch (TimeoutException e) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Consumer :- takes the next element, waiting for a buffer from the producer if needed. */
+  @Override
+  public E take() throws InterruptedException {
+    if (next == draining.size) {
+      draining = exchanger.exchange(emptied());
+      exchanges.incrementAndGet();
+    }
+    return draining.get(next++);
+  }
+
+  /** Consumer :- like take(), returns null if no buffer came within the timeout. */
+  @Override
+  public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+    if (next == draining.size && !receive(timeout, unit)) {
+      return null;
+    }
+    return draining.get(next++);
+  }
+
+  /**
+   * Consumer :- hands the elements of a whole buffer to the sink, waiting at most the timeout for
+   * the producer.
+   *
+   * @return number of elements drained, 0 if no buffer came within the timeout
+   */
+  public int drain(Consumer<? super E> sink, long timeout, TimeUnit unit)
+      throws InterruptedException {
+    if (next == draining.size && !receive(timeout, unit)) {
+      return 0;
+    }
+    int drained = draining.size - next;
+    while (next < draining.size) {
+      sink.accept(draining.get(next++));
+    }
+    return drained;
+  }
+
+  /** Number of buffers handed over so far. */
+  public long getExchanges() {
+    return exchanges.get();
+  }
+
+  private void add(E element) {
+    Buffer buffer = filling;
+    if (buffer.size == 0 && maxDelayNanos != Long.MAX_VALUE) {
+      flushAt = System.nanoTime() + maxDelayNanos;
+    }
+    buffer.elements[buffer.size++] = element;
+    if (maxDelayNanos != Long.MAX_VALUE && System.nanoTime() - flushAt >= 0) {
+      try {
+        // only if the consumer is already waiting, a busy consumer gets a fuller buffer later
+        filling = exchanger.exchange(buffer, 0, TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        // tries again after another maxDelay rather than on every element
+        flushAt = System.nanoTime() + maxDelayNanos;
+      } catch (InterruptedException e) {
+        // the element is added, the next blocking call sees the interrupt
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private boolean receive(long timeout, TimeUnit unit) throws InterruptedException {
+    try {
+      draining = exchanger.exchange(emptied(), timeout, unit);
+    } catch (TimeoutException e) {
+      return false;
+    }
+    exchanges.incrementAndGet();
+    return true;
+  }
+
+  /** Clears the drained buffer so the producer gets it back empty. */
+  private Buffer emptied() {
+    Buffer buffer = draining;
+    Arrays.fill(buffer.elements, 0, buffer.size, null);
+    buffer.size = 0;
+    next = 0;
+    return buffer;
+  }
+
+  /** The Exchanger makes the writes of one thread visible to the other. */
+  private final class Buffer {
+    final Object[] elements;
+    int size;
+
+    Buffer(int capacity) {
+      elements = new Object[capacity];
+    }
+
+    boolean isFull() {
+      return size == elements.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    E get(int index) {
+      return (E) elements[index];
+    }
+  }
+}
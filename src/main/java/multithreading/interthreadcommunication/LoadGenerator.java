@@ -0,0 +1,342 @@
+package multithreading.interthreadcommunication;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import multithreading.metrics.LatencyHistogram;
+
+/**
+ * Drives a {@link Channel} with producers sending at a fixed target rate and consumers receiving,
+ * and measures the latency of every message from the time it was supposed to be sent until a
+ * consumer has handled it.
+ *
+ * <p><b>Open loop</b> :- a producer doesn't wait for the consumers before sending the next message,
+ * message i is due at start + i * interval whatever happened to the previous ones. When the channel
+ * is full and put() blocks, the producer falls behind and then sends the overdue messages back to
+ * back, like real clients which keep arriving while the system is slow.
+ *
+ * <p><b>Coordinated omission</b> :- measuring from the time a message was actually sent hides
+ * exactly those stalls, the producer was stuck in put() so the messages it should have sent
+ * meanwhile were never timed (the load generator "coordinated" with the slow system). Here every
+ * latency is measured from the intended send time, so a stall shows up in all the messages which
+ * were due during it. The latency from the actual send time is recorded too, to see the difference.
+ *
+ * <p>run() measures one rate, sweep() a list of rates, i.e. the throughput-vs-latency curve of a
+ * channel :- latency stays flat until the achieved rate can't follow the target rate any more, then
+ * the backlog and the corrected latencies grow with the length of the run.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 19 : 04 : 37)
+ */
+public class LoadGenerator {
+  /** Below this the producers spin (yielding) instead of parking, parkNanos() oversleeps. */
+  private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private static final long POLL_MILLIS = 10;
+
+  private final Supplier<? extends Channel<Message>> channels;
+  private final int producers;
+  private final int consumers;
+  private final long serviceTimeNanos;
+
+  public LoadGenerator(
+      Supplier<? extends Channel<Message>> channels, int producers, int consumers) {
+    this(channels, producers, consumers, 0, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @param channels creates a new, empty channel for every run
+   * @param serviceTime time a consumer works on every message (spinning), zero for none
+   */
+  public LoadGenerator(
+      Supplier<? extends Channel<Message>> channels,
+      int producers,
+      int consumers,
+      long serviceTime,
+      TimeUnit unit) {
+    if (producers <= 0 || consumers <= 0 || serviceTime < 0) {
+      throw new IllegalArgumentException(
+          "producers and consumers must be positive and serviceTime not negative");
+    }
+    this.channels = channels;
+    this.producers = producers;
+    this.consumers = consumers;
+    this.serviceTimeNanos = unit.toNanos(serviceTime);
+  }
+
+  /** Runs every rate one after the other, on a new channel each. */
+  public List<Result> sweep(double[] ratesPerSecond, long warmup, long duration, TimeUnit unit)
+      throws InterruptedException {
+    List<Result> results = new ArrayList<>();
+    for (double rate : ratesPerSecond) {
+      results.add(run(rate, warmup, duration, unit));
+    }
+    return results;
+  }
+
+  /**
+   * Sends at the given rate (all producers together) for warmup + duration and records the messages
+   * due during the duration. A producer which has fallen behind keeps sending its overdue messages
+   * for at most another duration, the messages it hasn't sent by then are counted as dropped. The
+   * consumers drain the backlog until the same time, the messages left in the channel after that
+   * are counted as lost. So a run never takes longer than warmup + 2 * duration.
+   */
+  public Result run(double ratePerSecond, long warmup, long duration, TimeUnit unit)
+      throws InterruptedException {
+    if (ratePerSecond <= 0 || warmup < 0 || duration <= 0) {
+      throw new IllegalArgumentException(
+          "rate and duration must be positive and warmup not negative");
+    }
+    Run run = new Run(ratePerSecond, unit.toNanos(warmup), unit.toNanos(duration));
+    run.start();
+    return run.await();
+  }
+
+  /** What the producers send, the time it was due and the time it was actually sent. */
+  public static final class Message {
+    private final long intendedNanos;
+    private final long sentNanos;
+
+    private Message(long intendedNanos, long sentNanos) {
+      this.intendedNanos = intendedNanos;
+      this.sentNanos = sentNanos;
+    }
+
+    public long getIntendedNanos() {
+      return intendedNanos;
+    }
+
+    public long getSentNanos() {
+      return sentNanos;
+    }
+  }
+
+  /** Outcome of one run, latencies in nanoseconds. */
+  public static final class Result {
+    private final double targetRate;
+    private final double achievedRate;
+    private final long dropped;
+    private final long lost;
+    private final LatencyHistogram latency;
+    private final LatencyHistogram uncorrectedLatency;
+
+    Result(
+        double targetRate,
+        double achievedRate,
+        long dropped,
+        long lost,
+        LatencyHistogram latency,
+        LatencyHistogram uncorrectedLatency) {
+      this.targetRate = targetRate;
+      this.achievedRate = achievedRate;
+      this.dropped = dropped;
+      this.lost = lost;
+      this.latency = latency;
+      this.uncorrectedLatency = uncorrectedLatency;
+    }
+
+    public double getTargetRate() {
+      return targetRate;
+    }
+
+    /** Messages per second the consumers handled during the measurement. */
+    public double getAchievedRate() {
+      return achievedRate;
+    }
+
+    /** Messages which were due but never sent, the producers were too far behind at the end. */
+    public long getDropped() {
+      return dropped;
+    }
+
+    /** Messages still in the channel when the backlog wasn't drained in time. */
+    public long getLost() {
+      return lost;
+    }
+
+    /** From the intended send time, i.e. corrected for coordinated omission. */
+    public LatencyHistogram getLatency() {
+      return latency;
+    }
+
+    /** From the actual send time, what a closed loop measurement would report. */
+    public LatencyHistogram getUncorrectedLatency() {
+      return uncorrectedLatency;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "target %8.0f/s achieved %8.0f/s dropped %d lost %d : p50 %.1f p99 %.1f p99.9 %.1f max"
+              + " %.1f us (uncorrected p99 %.1f max %.1f us)",
+          targetRate,
+          achievedRate,
+          dropped,
+          lost,
+          latency.getValueAtPercentile(50) / 1e3,
+          latency.getValueAtPercentile(99) / 1e3,
+          latency.getValueAtPercentile(99.9) / 1e3,
+          latency.getMax() / 1e3,
+          uncorrectedLatency.getValueAtPercentile(99) / 1e3,
+          uncorrectedLatency.getMax() / 1e3);
+    }
+  }
+
+  /** The threads and the counters of one run() call. */
+  private final class Run {
+    final double ratePerSecond;
+    final Channel<Message> channel = channels.get();
+    final LatencyHistogram latency = new LatencyHistogram();
+    final LatencyHistogram uncorrectedLatency = new LatencyHistogram();
+    final LongAdder sent = new LongAdder();
+    final LongAdder dropped = new LongAdder();
+    final LongAdder received = new LongAdder();
+    final LongAdder receivedInMeasurement = new LongAdder();
+    final List<Thread> producerThreads = new ArrayList<>();
+    final List<Thread> consumerThreads = new ArrayList<>();
+
+    final long start;
+    final long measurementStart;
+    final long end;
+    final long stop;
+    final long duration;
+    volatile boolean stopped;
+
+    Run(double ratePerSecond, long warmup, long duration) {
+      this.ratePerSecond = ratePerSecond;
+      this.duration = duration;
+      // a little time for the threads to start, so the first messages aren't already late
+      this.start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+      this.measurementStart = start + warmup;
+      this.end = measurementStart + duration;
+      this.stop = end + duration;
+    }
+
+    void start() {
+      // every producer sends at rate / producers, shifted so together they are evenly spaced
+      double interval = producers * 1e9 / ratePerSecond;
+      for (int i = 0; i < producers; i++) {
+        long first = start + (long) (interval * i / producers);
+        producerThreads.add(newThread(() -> produce(first, interval), "load-producer-" + i));
+      }
+      for (int i = 0; i < consumers; i++) {
+        consumerThreads.add(newThread(this::consume, "load-consumer-" + i));
+      }
+      consumerThreads.forEach(Thread::start);
+      producerThreads.forEach(Thread::start);
+    }
+
+    Result await() throws InterruptedException {
+      try {
+        for (Thread producer : producerThreads) {
+          long remaining = stop - System.nanoTime();
+          if (remaining > 0) {
+            TimeUnit.NANOSECONDS.timedJoin(producer, remaining);
+          }
+        }
+        // the producers still running are stuck behind a full channel, stop them
+        producerThreads.forEach(Thread::interrupt);
+        for (Thread producer : producerThreads) {
+          producer.join();
+        }
+        while (received.sum() < sent.sum() && System.nanoTime() - stop < 0) {
+          TimeUnit.MILLISECONDS.sleep(1);
+        }
+      } finally {
+        stopped = true;
+        producerThreads.forEach(Thread::interrupt);
+        for (Thread consumer : consumerThreads) {
+          consumer.join();
+        }
+      }
+      double achievedRate = receivedInMeasurement.sum() * 1e9 / duration;
+      return new Result(
+          ratePerSecond,
+          achievedRate,
+          dropped.sum(),
+          sent.sum() - received.sum(),
+          latency,
+          uncorrectedLatency);
+    }
+
+    void produce(long first, double interval) {
+      long i = 0;
+      try {
+        for (; ; i++) {
+          long intended = first + (long) (interval * i);
+          if (intended - end >= 0) {
+            channel.flush();
+            return;
+          }
+          if (System.nanoTime() - stop >= 0) {
+            break;
+          }
+          waitUntil(intended);
+          channel.put(new Message(intended, System.nanoTime()));
+          sent.increment();
+        }
+      } catch (InterruptedException e) {
+        // stopped by await(), message i wasn't sent
+      }
+      long unsent = 0;
+      while (first + (long) (interval * (i + unsent)) - end < 0) {
+        unsent++;
+      }
+      dropped.add(unsent);
+    }
+
+    void consume() {
+      try {
+        while (!stopped) {
+          Message message = channel.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+          if (message != null) {
+            handle(message);
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    void handle(Message message) {
+      if (serviceTimeNanos > 0) {
+        long done = System.nanoTime() + serviceTimeNanos;
+        while (System.nanoTime() - done < 0) {
+          // simulated work
+        }
+      }
+      long now = System.nanoTime();
+      received.increment();
+      if (message.intendedNanos - measurementStart >= 0) {
+        latency.record(now - message.intendedNanos);
+        uncorrectedLatency.record(now - message.sentNanos);
+      }
+      if (now - measurementStart >= 0 && now - end < 0) {
+        receivedInMeasurement.increment();
+      }
+    }
+
+    Thread newThread(Runnable task, String name) {
+      Thread thread = new Thread(task, name);
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+  private static void waitUntil(long deadline) throws InterruptedException {
+    long remaining;
+    while ((remaining = deadline - System.nanoTime()) > 0) {
+      if (remaining > SPIN_THRESHOLD_NANOS) {
+        LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+      } else {
+        Thread.yield();
+      }
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package multithreading.interthreadcommunication;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The shared queue of {@link ProducerConsumer} as a reusable bounded queue :- one intrinsic lock
+ * (synchronized) guards the elements, producers wait() while it is full and consumers wait() while
+ * it is empty, each side notifyAll()s the other one.
+ *
+ * <p>notifyAll() rather than notify() because producers and consumers wait on the same monitor, a
+ * notify() could wake up a thread of the same side which goes back to waiting, and the one which
+ * could proceed would never be woken up.
+ *
+ * <p>It is the wait/notify counterpart of ArrayBlockingQueue (which has one lock and two
+ * Conditions, so each side only wakes up the other side), to compare them.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 18 : 42 : 26)
+ */
+public class MonitorQueue<E> implements Channel<E> {
+  private final ArrayDeque<E> elements;
+  private final int capacity;
+
+  public MonitorQueue(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive : " + capacity);
+    }
+    this.capacity = capacity;
+    this.elements = new ArrayDeque<>(Math.min(capacity, 1024));
+  }
+
+  @Override
+  public synchronized void put(E element) throws InterruptedException {
+    // always wait in a loop, the condition may not hold any more when the thread wakes up
+    while (elements.size() == capacity) {
+      wait();
+    }
+    add(element);
+  }
+
+  @Override
+  public synchronized boolean offer(E element, long timeout, TimeUnit unit)
+      throws InterruptedException {
+    long remaining = unit.toNanos(timeout);
+    long deadline = System.nanoTime() + remaining;
+    while (elements.size() == capacity) {
+      if (remaining <= 0) {
+        return false;
+      }
+      TimeUnit.NANOSECONDS.timedWait(this, remaining);
+      remaining = deadline - System.nanoTime();
+    }
+    add(element);
+    return true;
+  }
+
+  @Override
+  public synchronized E take() throws InterruptedException {
+    while (elements.isEmpty()) {
+      wait();
+    }
+    return remove();
+  }
+
+  @Override
+  public synchronized E poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long remaining = unit.toNanos(timeout);
+    long deadline = System.nanoTime() + remaining;
+    while (elements.isEmpty()) {
+      if (remaining <= 0) {
+        return null;
+      }
+      TimeUnit.NANOSECONDS.timedWait(this, remaining);
+      remaining = deadline - System.nanoTime();
+    }
+    return remove();
+  }
+
+  public synchronized int size() {
+    return elements.size();
+  }
+
+  private void add(E element) {
+    elements.addLast(element);
+    // consumers waiting for an element
+    notifyAll();
+  }
+
+  private E remove() {
+    E element = elements.pollFirst();
+    // producers waiting for room
+    notifyAll();
+    return element;
+  }
+}
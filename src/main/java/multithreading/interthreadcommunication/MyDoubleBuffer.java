@@ -0,0 +1,79 @@
+package multithreading.interthreadcommunication;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A bulk ingest of 10 million elements from one producer to one consumer, handed over one by one
+ * through a {@link MonitorQueue} and a thousand at a time through a {@link DoubleBuffer}.
+ *
+ * <p>Then a {@link LoadGenerator} sends 20 000 messages per second :- without a maxDelay a message
+ * waits until a thousand others have filled up its buffer, with a maxDelay of 1 ms the buffer is
+ * flushed early whenever the consumer is idle.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 20 : 21 : 09)
+ */
+public class MyDoubleBuffer {
+  private static final int ELEMENTS = 10_000_000;
+  private static final int CAPACITY = 1024;
+
+  public static void main(String[] args) throws InterruptedException {
+    System.out.println("****Bulk ingest of " + ELEMENTS + " elements****\n");
+    ingest("MonitorQueue", new MonitorQueue<>(CAPACITY));
+    DoubleBuffer<Integer> doubleBuffer = new DoubleBuffer<>(CAPACITY);
+    ingest("DoubleBuffer", doubleBuffer);
+    System.out.println("Buffers exchanged : " + doubleBuffer.getExchanges());
+
+    System.out.println("\n****20 000 messages per second****\n");
+    System.out.print("MonitorQueue              : ");
+    load(() -> new MonitorQueue<>(CAPACITY));
+    System.out.print("DoubleBuffer              : ");
+    load(() -> new DoubleBuffer<>(CAPACITY));
+    System.out.print("DoubleBuffer, maxDelay 1ms : ");
+    load(() -> new DoubleBuffer<>(CAPACITY, 1, TimeUnit.MILLISECONDS));
+  }
+
+  private static void ingest(String name, Channel<Integer> channel) throws InterruptedException {
+    LongAdder sum = new LongAdder();
+    Thread consumer =
+        new Thread(
+            () -> {
+              try {
+                long consumed = 0;
+                for (int i = 0; i < ELEMENTS; i++) {
+                  consumed += channel.take();
+                }
+                sum.add(consumed);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            });
+    consumer.start();
+
+    long start = System.nanoTime();
+    long expected = 0;
+    for (int i = 0; i < ELEMENTS; i++) {
+      // cached Integers, so the elements themselves allocate nothing either
+      Integer element = i & 127;
+      channel.put(element);
+      expected += element;
+    }
+    channel.flush();
+    consumer.join();
+    long elapsed = System.nanoTime() - start;
+    System.out.printf(
+        "%-12s : %5d ms, %6.1f million elements per second, sum correct : %b%n",
+        name,
+        TimeUnit.NANOSECONDS.toMillis(elapsed),
+        ELEMENTS * 1e3 / elapsed,
+        sum.sum() == expected);
+  }
+
+  private static void load(Supplier<Channel<LoadGenerator.Message>> channels)
+      throws InterruptedException {
+    LoadGenerator generator = new LoadGenerator(channels, 1, 1);
+    System.out.println(generator.run(20_000, 500, 1000, TimeUnit.MILLISECONDS));
+  }
+}
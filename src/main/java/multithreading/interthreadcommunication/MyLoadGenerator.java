@@ -0,0 +1,54 @@
+package multithreading.interthreadcommunication;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instead of 4 items produced with sleep() in between like in {@link ProducerConsumer}, a {@link
+ * LoadGenerator} drives each queue with 2 producers and 2 consumers at increasing rates, every
+ * message keeps a consumer busy for 50 us, so the consumers handle at most about 40 000 messages
+ * per second (less when the cores are shared with the producers).
+ *
+ * <p>Up to the capacity of the consumers the median stays close to the 50 us of work. The last rate
+ * is twice that capacity :- the backlog grows for the whole run, the corrected latencies grow to
+ * about a second while the uncorrected ones stay at the few tens of milliseconds a message waits
+ * behind a full queue of 1000, and the messages the producers couldn't send in time are dropped.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 19 : 04 : 37)
+ */
+public class MyLoadGenerator {
+  private static final int CAPACITY = 1000;
+  private static final long SERVICE_MICROS = 50;
+  private static final double[] RATES = {5_000, 20_000, 35_000, 80_000};
+
+  public static void main(String[] args) throws InterruptedException {
+    System.out.println("****MonitorQueue (wait/notifyAll)****\n");
+    sweep(
+        new LoadGenerator(
+            () -> new MonitorQueue<>(CAPACITY), 2, 2, SERVICE_MICROS, TimeUnit.MICROSECONDS));
+
+    System.out.println("\n****ArrayBlockingQueue****\n");
+    sweep(
+        new LoadGenerator(
+            () -> Channel.of(new ArrayBlockingQueue<>(CAPACITY)),
+            2,
+            2,
+            SERVICE_MICROS,
+            TimeUnit.MICROSECONDS));
+
+    System.out.println("\n****LinkedBlockingQueue****\n");
+    sweep(
+        new LoadGenerator(
+            () -> Channel.of(new LinkedBlockingQueue<>(CAPACITY)),
+            2,
+            2,
+            SERVICE_MICROS,
+            TimeUnit.MICROSECONDS));
+  }
+
+  private static void sweep(LoadGenerator generator) throws InterruptedException {
+    generator.sweep(RATES, 500, 1000, TimeUnit.MILLISECONDS).forEach(System.out::println);
+  }
+}
@@ -0,0 +1,69 @@
+package multithreading.limiter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Additive increase, multiplicative decrease, the TCP congestion control algorithm applied to
+ * concurrent calls :- every call completed within the timeout while the limit is actually used
+ * raises the limit by 1, every call which timed out (or took longer than the timeout) cuts it by
+ * the backoff ratio.
+ *
+ * <p>Simple and robust, but it only reacts once calls time out, i.e. after the dependency is
+ * already overloaded. {@link VegasLimit} reacts to the latency growing before that.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 16 : 21 : 07)
+ */
+public class AimdLimit implements Limit {
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final long timeoutNanos;
+  private volatile int limit;
+
+  /** Starts at 20, between 1 and 200, backs off to 90% on a timeout. */
+  public AimdLimit(long timeout, TimeUnit unit) {
+    this(20, 1, 200, 0.9, timeout, unit);
+  }
+
+  public AimdLimit(
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      double backoffRatio,
+      long timeout,
+      TimeUnit unit) {
+    if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+      throw new IllegalArgumentException("expected 0 < minLimit <= initialLimit <= maxLimit");
+    }
+    if (backoffRatio <= 0 || backoffRatio >= 1) {
+      throw new IllegalArgumentException("backoffRatio must be between 0 and 1 : " + backoffRatio);
+    }
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.backoffRatio = backoffRatio;
+    this.timeoutNanos = unit.toNanos(timeout);
+  }
+
+  @Override
+  public int getLimit() {
+    return limit;
+  }
+
+  @Override
+  public synchronized void onSample(long rttNanos, int inflight, boolean dropped) {
+    int current = limit;
+    if (dropped || rttNanos > timeoutNanos) {
+      limit = Math.max(minLimit, Math.min(current - 1, (int) (current * backoffRatio)));
+    } else if (inflight * 2 >= current) {
+      // only grow when at least half of the limit is used, otherwise the sample says nothing
+      limit = Math.min(maxLimit, current + 1);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "AimdLimit{limit=" + limit + "}";
+  }
+}
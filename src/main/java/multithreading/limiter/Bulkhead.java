@@ -0,0 +1,208 @@
+package multithreading.limiter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of concurrent async calls to one dependency, so a slow dependency can only tie up
+ * its own share of the threads (like the watertight compartments of a ship) instead of every thread
+ * of the shared pool.
+ *
+ * <p>A call starts at once while fewer calls than the {@link Limit} are in flight, otherwise it
+ * waits in a bounded queue and starts when a call completes. When the queue is full too, the call
+ * fails at once with a RejectedExecutionException :- failing fast keeps the callers' latency low
+ * and lets them fall back, where waiting would only add them to the pile up.
+ *
+ * <p>With an adaptive limit ({@link VegasLimit}, {@link AimdLimit}) the limit follows the latency
+ * of the dependency :- when it slows down (or times out) the limit shrinks, the excess calls are
+ * rejected and the calls which are let through still complete in a reasonable time. So the
+ * throughput degrades gracefully instead of collapsing with every call timing out.
+ *
+ * <p>Only successful calls and timeouts (a TimeoutException) are fed to the limit, other failures
+ * say nothing about the load of the dependency.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 16 : 21 : 07)
+ */
+public class Bulkhead {
+  private final String name;
+  private final Limit limit;
+  private final int maxQueueSize;
+
+  private final AtomicInteger inflight = new AtomicInteger();
+  private final AtomicInteger queued = new AtomicInteger();
+  private final ConcurrentLinkedQueue<Call<?>> queue = new ConcurrentLinkedQueue<>();
+
+  private final LongAdder accepted = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder timedOut = new LongAdder();
+
+  /** A bulkhead with an adaptive {@link VegasLimit} and no queue, i.e. excess calls fail fast. */
+  public Bulkhead(String name) {
+    this(name, new VegasLimit(), 0);
+  }
+
+  public Bulkhead(String name, Limit limit, int maxQueueSize) {
+    if (maxQueueSize < 0) {
+      throw new IllegalArgumentException("maxQueueSize must not be negative : " + maxQueueSize);
+    }
+    this.name = name;
+    this.limit = limit;
+    this.maxQueueSize = maxQueueSize;
+  }
+
+  /** Same as CompletableFuture.supplyAsync(supplier, executor), within the limit. */
+  public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+    return call(() -> CompletableFuture.supplyAsync(supplier, executor));
+  }
+
+  /**
+   * Starts the async call (which must not block) when the limit allows it. The latency of the call
+   * is measured from its start to the completion of its stage.
+   */
+  public <T> CompletableFuture<T> call(Supplier<? extends CompletionStage<T>> asyncCall) {
+    Call<T> call = new Call<>(asyncCall);
+    if (tryAcquire()) {
+      accepted.increment();
+      call.start();
+      return call.result;
+    }
+    if (queued.incrementAndGet() > maxQueueSize) {
+      queued.decrementAndGet();
+      rejected.increment();
+      call.result.completeExceptionally(
+          new RejectedExecutionException(
+              name + " bulkhead is full, limit " + limit.getLimit() + ", queue " + maxQueueSize));
+      return call.result;
+    }
+    accepted.increment();
+    queue.offer(call);
+    // a call may have completed between the failed tryAcquire() and the offer()
+    drain();
+    return call.result;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getLimit() {
+    return limit.getLimit();
+  }
+
+  public int getInflight() {
+    return inflight.get();
+  }
+
+  public int getQueued() {
+    return queued.get();
+  }
+
+  public long getAcceptedCount() {
+    return accepted.sum();
+  }
+
+  public long getRejectedCount() {
+    return rejected.sum();
+  }
+
+  public long getTimedOutCount() {
+    return timedOut.sum();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s{limit=%d inflight=%d queued=%d accepted=%d rejected=%d timedOut=%d}",
+        name,
+        getLimit(),
+        getInflight(),
+        getQueued(),
+        getAcceptedCount(),
+        getRejectedCount(),
+        getTimedOutCount());
+  }
+
+  private boolean tryAcquire() {
+    while (true) {
+      int current = inflight.get();
+      if (current >= limit.getLimit()) {
+        return false;
+      }
+      if (inflight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /** Starts queued calls while the limit allows it. */
+  private void drain() {
+    while (!queue.isEmpty() && tryAcquire()) {
+      Call<?> call = queue.poll();
+      if (call == null) {
+        inflight.decrementAndGet();
+        continue;
+      }
+      queued.decrementAndGet();
+      if (call.result.isDone()) {
+        // cancelled by the caller while it was waiting
+        inflight.decrementAndGet();
+        continue;
+      }
+      call.start();
+    }
+  }
+
+  private void release(long start, Throwable failure) {
+    long rtt = System.nanoTime() - start;
+    int current = inflight.getAndDecrement();
+    Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+    if (cause instanceof TimeoutException) {
+      timedOut.increment();
+      limit.onSample(rtt, current, true);
+    } else if (cause == null) {
+      limit.onSample(rtt, current, false);
+    }
+  }
+
+  private final class Call<T> {
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    final Supplier<? extends CompletionStage<T>> asyncCall;
+
+    Call(Supplier<? extends CompletionStage<T>> asyncCall) {
+      this.asyncCall = asyncCall;
+    }
+
+    void start() {
+      long start = System.nanoTime();
+      CompletionStage<T> stage;
+      try {
+        stage = asyncCall.get();
+      } catch (Throwable throwable) {
+        release(start, throwable);
+        result.completeExceptionally(throwable);
+        drain();
+        return;
+      }
+      stage.whenComplete(
+          (value, failure) -> {
+            release(start, failure);
+            if (failure != null) {
+              result.completeExceptionally(failure);
+            } else {
+              result.complete(value);
+            }
+            // after completing, so the queued calls don't delay this caller
+            drain();
+          });
+    }
+  }
+}
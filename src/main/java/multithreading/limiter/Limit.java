@@ -0,0 +1,39 @@
+package multithreading.limiter;
+
+/**
+ * Concurrency limit of a {@link Bulkhead}, i.e. how many calls to a dependency may be in flight at
+ * the same time. An adaptive limit is fed with the latency of every completed call and moves the
+ * limit up while the latency holds and down when it grows (the dependency is queueing the calls).
+ *
+ * <p>Implementations must be thread safe, onSample() is called by whichever thread completes a
+ * call.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 16 : 21 : 07)
+ */
+public interface Limit {
+  int getLimit();
+
+  /**
+   * @param rttNanos time from the start of the call to its completion
+   * @param inflight number of calls in flight when this one completed, including it
+   * @param dropped whether the call timed out (or was otherwise dropped by the dependency)
+   */
+  void onSample(long rttNanos, int inflight, boolean dropped);
+
+  /** A limit which never changes, i.e. a plain bulkhead. */
+  static Limit fixed(int limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("limit must be positive : " + limit);
+    }
+    return new Limit() {
+      @Override
+      public int getLimit() {
+        return limit;
+      }
+
+      @Override
+      public void onSample(long rttNanos, int inflight, boolean dropped) {}
+    };
+  }
+}
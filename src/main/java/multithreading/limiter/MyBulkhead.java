@@ -0,0 +1,125 @@
+package multithreading.limiter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import multithreading.callablefuture.Deadline;
+import multithreading.callablefuture.DeadlineService;
+import multithreading.metrics.LatencyHistogram;
+
+/**
+ * Two dependencies share one pool of 32 threads :- inventory always answers in 20 ms, pricing
+ * answers in 20 ms for half a second and then takes 400 ms (an outage). Both are called 500 times a
+ * second and a call times out after 200 ms.
+ *
+ * <p>Without bulkheads the pricing calls pile up on the pool (each one holds a thread for 400 ms,
+ * timed out or not), the pool queue grows and the inventory calls wait behind them :- the healthy
+ * dependency fails with the broken one. With a {@link VegasLimit} bulkhead per dependency the
+ * pricing limit drops, its excess calls are rejected at once, and inventory barely notices.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 16 : 21 : 07)
+ */
+public class MyBulkhead {
+  private static final long INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+  private static final long HEALTHY_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+  private static final long DURATION_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+  public static void main(String[] args) throws InterruptedException {
+    DeadlineService deadlineService = new DeadlineService();
+
+    System.out.println("****Without bulkheads****\n");
+    run(
+        deadlineService,
+        new Bulkhead("inventory", Limit.fixed(Integer.MAX_VALUE), 0),
+        new Bulkhead("pricing", Limit.fixed(Integer.MAX_VALUE), 0));
+
+    System.out.println("\n****With adaptive bulkheads****\n");
+    run(deadlineService, new Bulkhead("inventory"), new Bulkhead("pricing"));
+
+    deadlineService.close();
+  }
+
+  private static void run(DeadlineService deadlineService, Bulkhead inventory, Bulkhead pricing)
+      throws InterruptedException {
+    ExecutorService pool = Executors.newFixedThreadPool(32);
+    Outcome inventoryOutcome = new Outcome();
+    Outcome pricingOutcome = new Outcome();
+
+    long start = System.nanoTime();
+    for (long intended = start; intended - start < DURATION_NANOS; intended += INTERVAL_NANOS) {
+      while (System.nanoTime() < intended) {
+        LockSupport.parkNanos(intended - System.nanoTime());
+      }
+      boolean outage = intended - start >= HEALTHY_NANOS;
+      send(deadlineService, pool, inventory, 20, inventoryOutcome);
+      send(deadlineService, pool, pricing, outage ? 400 : 20, pricingOutcome);
+    }
+
+    // let the calls in flight time out before reading the outcome
+    TimeUnit.MILLISECONDS.sleep(300);
+    System.out.println("inventory : " + inventoryOutcome);
+    System.out.println("pricing   : " + pricingOutcome);
+    System.out.println(inventory);
+    System.out.println(pricing);
+    pool.shutdownNow();
+  }
+
+  private static void send(
+      DeadlineService deadlineService,
+      ExecutorService pool,
+      Bulkhead bulkhead,
+      long latencyMillis,
+      Outcome outcome) {
+    long start = System.nanoTime();
+    bulkhead
+        .call(
+            () ->
+                deadlineService.within(
+                    CompletableFuture.supplyAsync(() -> remoteCall(latencyMillis), pool),
+                    Deadline.after(200, TimeUnit.MILLISECONDS)))
+        .whenComplete((value, failure) -> outcome.record(System.nanoTime() - start, failure));
+  }
+
+  private static String remoteCall(long latencyMillis) {
+    try {
+      TimeUnit.MILLISECONDS.sleep(latencyMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return "OK";
+  }
+
+  private static class Outcome {
+    final LatencyHistogram successLatency = new LatencyHistogram();
+    final LongAdder rejected = new LongAdder();
+    final LongAdder timedOut = new LongAdder();
+
+    void record(long nanos, Throwable failure) {
+      Throwable cause =
+          failure == null || failure.getCause() == null ? failure : failure.getCause();
+      if (cause == null) {
+        successLatency.record(nanos);
+      } else if (cause instanceof RejectedExecutionException) {
+        rejected.increment();
+      } else if (cause instanceof TimeoutException) {
+        timedOut.increment();
+      }
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "succeeded=%d (p99 %d ms) rejected=%d timedOut=%d",
+          successLatency.getTotalCount(),
+          TimeUnit.NANOSECONDS.toMillis(successLatency.getValueAtPercentile(99)),
+          rejected.sum(),
+          timedOut.sum());
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package multithreading.limiter;
+
+/**
+ * TCP Vegas applied to concurrent calls :- the limit follows the estimated number of calls waiting
+ * in the queue of the dependency rather than its failures.
+ *
+ * <p>The lowest latency seen (the no load latency) is the time a call takes when it doesn't wait
+ * behind others. With L calls in flight and a sample latency of rtt, about L * (1 - noLoad / rtt)
+ * of them are queued. While that estimate is small (below alpha = 3 * log10(L)) the limit grows,
+ * when it is large (above beta = 6 * log10(L)) the limit shrinks, so the dependency is kept busy
+ * with a short queue instead of a long one whose latency hits every caller.
+ *
+ * <p>The no load latency is measured again from scratch every few hundred samples, so the limit
+ * recovers when the dependency gets faster or slower for good (e.g. after a deployment).
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 16 : 21 : 07)
+ */
+public class VegasLimit implements Limit {
+  private static final int PROBE_EVERY_SAMPLES_PER_LIMIT = 30;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private double estimatedLimit;
+  private volatile int limit;
+  private long noLoadRtt;
+  private long samples;
+
+  /** Starts at 20, between 1 and 1000. */
+  public VegasLimit() {
+    this(20, 1, 1000);
+  }
+
+  public VegasLimit(int initialLimit, int minLimit, int maxLimit) {
+    if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+      throw new IllegalArgumentException("expected 0 < minLimit <= initialLimit <= maxLimit");
+    }
+    this.estimatedLimit = initialLimit;
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+  }
+
+  @Override
+  public int getLimit() {
+    return limit;
+  }
+
+  @Override
+  public synchronized void onSample(long rttNanos, int inflight, boolean dropped) {
+    if (rttNanos <= 0) {
+      return;
+    }
+    if (++samples >= PROBE_EVERY_SAMPLES_PER_LIMIT * Math.max(10, limit)) {
+      samples = 0;
+      noLoadRtt = rttNanos;
+      return;
+    }
+    if (noLoadRtt == 0 || rttNanos < noLoadRtt) {
+      noLoadRtt = rttNanos;
+    }
+
+    double current = estimatedLimit;
+    double log = Math.max(1, Math.log10(current));
+    double next;
+    if (dropped) {
+      next = current - log;
+    } else if (inflight * 2 < current) {
+      // the limit isn't used, the latency doesn't say anything about a higher limit
+      return;
+    } else {
+      double queued = Math.ceil(current * (1 - (double) noLoadRtt / rttNanos));
+      if (queued <= log) {
+        next = current + 6 * log;
+      } else if (queued < 3 * log) {
+        next = current + log;
+      } else if (queued > 6 * log) {
+        next = current - log;
+      } else {
+        return;
+      }
+    }
+    estimatedLimit = Math.max(minLimit, Math.min(maxLimit, next));
+    limit = (int) estimatedLimit;
+  }
+
+  @Override
+  public String toString() {
+    return "VegasLimit{limit=" + limit + "}";
+  }
+}
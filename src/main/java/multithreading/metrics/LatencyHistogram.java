@@ -0,0 +1,129 @@
+package multithreading.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe high dynamic range histogram for latencies (or any other positive long values).
+ *
+ * <p>Like HdrHistogram, the buckets grow with the magnitude of the values :- values below 128 have
+ * a bucket each, then every power of two range is divided into 64 buckets. So the relative error of
+ * a reported value is below 1/64 (~1.6%) whether it is 100 ns or 100 seconds, with a fixed number
+ * of buckets (3712) to cover the whole long range.
+ *
+ * <p>Recording is a single atomic increment, i.e. many threads can record at the same time without
+ * any lock. Reading percentiles scans all the buckets, so it is meant for reporting and for
+ * periodically refreshed thresholds rather than for every single operation.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 15 : 02 : 48)
+ */
+public class LatencyHistogram {
+  /** Buckets per power of two range, as a power of two. */
+  private static final int SUB_BUCKET_BITS = 6;
+
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder totalCount = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /** Records one value, negative values are recorded as zero. */
+  public void record(long value) {
+    record(value, 1);
+  }
+
+  /** Records the same value count times. */
+  public void record(long value, long count) {
+    long recorded = Math.max(0, value);
+    counts.addAndGet(indexOf(recorded), count);
+    totalCount.add(count);
+    sum.add(recorded * count);
+    max.accumulate(recorded);
+  }
+
+  public long getTotalCount() {
+    return totalCount.sum();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Returns the value below or at which the given percentage (0 to 100) of the recorded values
+   * fall, rounded up to the upper bound of its bucket. Returns 0 if nothing has been recorded.
+   */
+  public long getValueAtPercentile(double percentile) {
+    long[] snapshot = new long[BUCKETS];
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      count += snapshot[i];
+    }
+    if (count == 0) {
+      return 0;
+    }
+    double fraction = Math.min(100, Math.max(0, percentile)) / 100;
+    long target = Math.max(1, (long) Math.ceil(fraction * count));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += snapshot[i];
+      if (seen >= target) {
+        return Math.min(highestValueOf(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * Clears the histogram. Values recorded while the reset is in progress may be partially lost, so
+   * reset it between measurements rather than during one.
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      counts.set(i, 0);
+    }
+    totalCount.reset();
+    sum.reset();
+    max.reset();
+  }
+
+  /** One line summary, values are converted from nanoseconds to the given unit. */
+  public String summary(TimeUnit unit) {
+    double scale = unit.toNanos(1);
+    long count = getTotalCount();
+    double mean = count == 0 ? 0 : (double) sum.sum() / count;
+    return String.format(
+        "count=%d mean=%.2f p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f (%s)",
+        count,
+        mean / scale,
+        getValueAtPercentile(50) / scale,
+        getValueAtPercentile(90) / scale,
+        getValueAtPercentile(99) / scale,
+        getValueAtPercentile(99.9) / scale,
+        getMax() / scale,
+        unit.name().toLowerCase());
+  }
+
+  static int indexOf(long value) {
+    if (value < 2 * SUB_BUCKETS) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return shift * SUB_BUCKETS + (int) (value >>> shift);
+  }
+
+  static long highestValueOf(int index) {
+    if (index < 2 * SUB_BUCKETS) {
+      return index;
+    }
+    int shift = index / SUB_BUCKETS - 1;
+    long subBucket = index - (long) shift * SUB_BUCKETS;
+    return ((subBucket + 1) << shift) - 1;
+  }
+}
@@ -0,0 +1,123 @@
+package multithreading.metrics;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instead of printing thread.getState() of each thread by hand, a {@link ThreadStateProfiler}
+ * samples 5 worker threads for 2 seconds :- one computes (RUNNABLE), one sleeps (TIMED_WAITING),
+ * one waits for a notify() which comes at the end (WAITING) and two fight over one synchronized
+ * block (BLOCKED half of the time).
+ *
+ * <p>Pass a file name as argument to get the collapsed stacks for a flame graph, e.g. flamegraph.pl
+ * stacks.txt > stacks.svg
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 17 : 31 : 52)
+ */
+public class MyThreadStateProfiler {
+  private static final Object SHARED_LOCK = new Object();
+  private static final Object SIGNAL = new Object();
+  private static volatile boolean running = true;
+
+  public static void main(String[] args) throws InterruptedException, IOException {
+    ThreadStateProfiler profiler =
+        new ThreadStateProfiler(
+            10,
+            TimeUnit.MILLISECONDS,
+            32,
+            0.01,
+            info -> info.getThreadName().startsWith("worker-"));
+
+    Thread[] workers = {
+      new Thread(MyThreadStateProfiler::compute, "worker-busy"),
+      new Thread(MyThreadStateProfiler::sleep, "worker-sleeping"),
+      new Thread(MyThreadStateProfiler::awaitSignal, "worker-waiting"),
+      new Thread(MyThreadStateProfiler::holdSharedLock, "worker-locking-1"),
+      new Thread(MyThreadStateProfiler::holdSharedLock, "worker-locking-2")
+    };
+    for (Thread worker : workers) {
+      worker.start();
+    }
+
+    profiler.start();
+    TimeUnit.SECONDS.sleep(2);
+    profiler.stop();
+
+    running = false;
+    synchronized (SIGNAL) {
+      SIGNAL.notifyAll();
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+
+    System.out.println("****Time per thread state****\n");
+    System.out.println(profiler.summary(3));
+
+    System.out.println("****Hottest stacks (collapsed)****\n");
+    StringBuilder collapsed = new StringBuilder();
+    profiler.writeCollapsed(collapsed);
+    Arrays.stream(collapsed.toString().split("\n"))
+        .sorted(
+            Comparator.comparingLong(
+                    (String line) -> Long.parseLong(line.substring(line.lastIndexOf(' ') + 1)))
+                .reversed())
+        .limit(5)
+        .forEach(System.out::println);
+
+    if (args.length > 0) {
+      try (Writer writer = new FileWriter(args[0])) {
+        profiler.writeCollapsed(writer);
+      }
+      System.out.println("\nCollapsed stacks written to " + args[0]);
+    }
+  }
+
+  private static void compute() {
+    long value = 0;
+    while (running) {
+      value += Long.numberOfTrailingZeros(System.nanoTime());
+    }
+    System.out.println("Computed : " + value);
+  }
+
+  private static void sleep() {
+    while (running) {
+      try {
+        TimeUnit.MILLISECONDS.sleep(100);
+      } catch (InterruptedException e) {
+        return;
+      }
+    }
+  }
+
+  private static void awaitSignal() {
+    synchronized (SIGNAL) {
+      while (running) {
+        try {
+          SIGNAL.wait();
+        } catch (InterruptedException e) {
+          return;
+        }
+      }
+    }
+  }
+
+  private static void holdSharedLock() {
+    while (running) {
+      synchronized (SHARED_LOCK) {
+        try {
+          // sleeping keeps the monitor, the other thread is BLOCKED meanwhile
+          TimeUnit.MILLISECONDS.sleep(20);
+        } catch (InterruptedException e) {
+          return;
+        }
+      }
+    }
+  }
+}
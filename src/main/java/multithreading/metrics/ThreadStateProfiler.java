@@ -0,0 +1,338 @@
+package multithreading.metrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Sampling profiler of thread states :- where the threads spend their time RUNNABLE, BLOCKED,
+ * WAITING and TIMED_WAITING, per stack and per lock.
+ *
+ * <p>Calling thread.getState() by hand shows one thread at one instant. Here a daemon thread takes
+ * the state and the stack of every live thread at a regular interval (ThreadMXBean.getThreadInfo)
+ * and adds the interval to the time of that state and stack, so after a while the totals show where
+ * the time goes. A CPU profiler only sees the RUNNABLE threads, the waiting ones are exactly what
+ * it misses.
+ *
+ * <p><b>Per lock</b> :- a BLOCKED or WAITING thread reports the monitor or synchronizer it waits
+ * for, so the time is also added up per lock (with the last thread seen owning it).
+ *
+ * <p><b>Flame graphs</b> :- writeCollapsed() prints one line per distinct stack in the collapsed
+ * format of flamegraph.pl / speedscope, "STATE;root frame;...;leaf frame milliseconds".
+ *
+ * <p><b>Overhead</b> :- taking the stacks stops the JVM at a safepoint, so the cost of a sample
+ * grows with the number of threads and the stack depth. Every sample is charged with the wall clock
+ * time of that pause, which every application thread waits through, plus the CPU time the sampler
+ * spends adding it up, and the interval is stretched whenever needed to keep the sampling below the
+ * overhead budget (1% of the wall clock time by default). The stacks are cut at maxDepth frames,
+ * and beyond {@link #MAX_STACKS} distinct stacks (or locks) the new ones are added up in one
+ * "(other stacks)" entry per state (one "(other locks)" entry), so the memory stays bounded however
+ * long it runs.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 17 : 31 : 52)
+ */
+public class ThreadStateProfiler implements AutoCloseable {
+  /** Most distinct stacks, and most distinct locks, kept apart. */
+  public static final int MAX_STACKS = 10_000;
+
+  private static final String OTHER_STACKS = "(other stacks)";
+  private static final String OTHER_LOCKS = "(other locks)";
+
+  private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+  private final long intervalNanos;
+  private final int maxDepth;
+  private final double maxOverhead;
+  private final Predicate<ThreadInfo> filter;
+
+  private final Map<Thread.State, LongAdder> stateNanos = new EnumMap<>(Thread.State.class);
+  private final ConcurrentHashMap<String, LongAdder> stackNanos = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, LockContention> locks = new ConcurrentHashMap<>();
+  private final LongAdder samples = new LongAdder();
+  private final LongAdder samplingNanos = new LongAdder();
+
+  private volatile Thread sampler;
+  private volatile long startedAt;
+  private volatile long currentIntervalNanos;
+
+  /** Samples every 20 ms, 64 frames deep, within 1% overhead, all threads. */
+  public ThreadStateProfiler() {
+    this(20, TimeUnit.MILLISECONDS, 64, 0.01, info -> true);
+  }
+
+  /**
+   * @param maxOverhead fraction of the wall clock time the sampling may take, e.g. 0.01
+   * @param filter which threads to sample, the profiler's own thread is never sampled
+   */
+  public ThreadStateProfiler(
+      long interval,
+      TimeUnit unit,
+      int maxDepth,
+      double maxOverhead,
+      Predicate<ThreadInfo> filter) {
+    if (interval <= 0 || maxDepth <= 0 || maxOverhead <= 0 || maxOverhead >= 1) {
+      throw new IllegalArgumentException(
+          "interval and maxDepth must be positive, maxOverhead between 0 and 1");
+    }
+    this.intervalNanos = unit.toNanos(interval);
+    this.currentIntervalNanos = intervalNanos;
+    this.maxDepth = maxDepth;
+    this.maxOverhead = maxOverhead;
+    this.filter = filter;
+    for (Thread.State state : Thread.State.values()) {
+      stateNanos.put(state, new LongAdder());
+    }
+  }
+
+  /** Starts sampling, does nothing if it is already started. */
+  public synchronized void start() {
+    if (sampler != null) {
+      return;
+    }
+    startedAt = System.nanoTime();
+    sampler = new Thread(this::sampleLoop, "thread-state-profiler");
+    sampler.setDaemon(true);
+    sampler.start();
+  }
+
+  /** Stops sampling, the collected data stays until reset(). */
+  public synchronized void stop() {
+    Thread thread = sampler;
+    if (thread == null) {
+      return;
+    }
+    sampler = null;
+    thread.interrupt();
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void close() {
+    stop();
+  }
+
+  public void reset() {
+    stateNanos.values().forEach(LongAdder::reset);
+    stackNanos.clear();
+    locks.clear();
+    samples.reset();
+    samplingNanos.reset();
+    startedAt = System.nanoTime();
+  }
+
+  private void sampleLoop() {
+    // the first call loads and compiles the sampling code, it would stretch the interval for
+    // nothing
+    threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds(), maxDepth);
+    double averageCost = 0;
+    long previous = System.nanoTime();
+    while (sampler == Thread.currentThread()) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(currentIntervalNanos);
+      } catch (InterruptedException e) {
+        return;
+      }
+      long begin = System.nanoTime();
+      ThreadInfo[] infos = threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds(), maxDepth);
+      // the safepoint pause, wall clock time as every application thread waits it out
+      long pause = System.nanoTime() - begin;
+      long cpuBegin = cpuTime();
+      long addBegin = System.nanoTime();
+      // every thread is weighted with the time since the previous sample, which is more than the
+      // interval when the sampler itself was delayed
+      add(infos, begin - previous);
+      long cost = pause + (cpuBegin < 0 ? System.nanoTime() - addBegin : cpuTime() - cpuBegin);
+      samplingNanos.add(cost);
+      samples.increment();
+      // smoothed, so a single slow sample (e.g. a GC pause) doesn't stretch the interval
+      averageCost = averageCost == 0 ? cost : averageCost + (cost - averageCost) / 8;
+      currentIntervalNanos = Math.max(intervalNanos, (long) (averageCost / maxOverhead));
+      previous = begin;
+    }
+  }
+
+  /**
+   * CPU time of the sampler, so the time it waits for the CPU while adding up isn't counted as
+   * overhead.
+   */
+  private long cpuTime() {
+    return threadMXBean.isCurrentThreadCpuTimeSupported()
+        ? threadMXBean.getCurrentThreadCpuTime()
+        : -1;
+  }
+
+  private void add(ThreadInfo[] infos, long weight) {
+    long self = Thread.currentThread().getId();
+    for (ThreadInfo info : infos) {
+      if (info == null || info.getThreadId() == self || !filter.test(info)) {
+        continue;
+      }
+      Thread.State state = info.getThreadState();
+      stateNanos.get(state).add(weight);
+      String stack = collapse(state, info.getStackTrace());
+      LongAdder stackTime = stackNanos.get(stack);
+      if (stackTime == null) {
+        String key = stackNanos.size() < MAX_STACKS ? stack : state.name() + ";" + OTHER_STACKS;
+        stackTime = stackNanos.computeIfAbsent(key, s -> new LongAdder());
+      }
+      stackTime.add(weight);
+      String lockName = info.getLockName();
+      if (lockName != null && state != Thread.State.RUNNABLE) {
+        LockContention contention = locks.get(lockName);
+        if (contention == null) {
+          String key = locks.size() < MAX_STACKS ? lockName : OTHER_LOCKS;
+          contention = locks.computeIfAbsent(key, LockContention::new);
+        }
+        contention.add(state, weight, info.getLockOwnerName());
+      }
+    }
+  }
+
+  private static String collapse(Thread.State state, StackTraceElement[] stack) {
+    StringBuilder builder = new StringBuilder(state.name());
+    for (int i = stack.length - 1; i >= 0; i--) {
+      String className = stack[i].getClassName();
+      int lambda = className.indexOf("$$Lambda");
+      builder
+          .append(';')
+          .append(lambda < 0 ? className : className.substring(0, lambda + 8))
+          .append('.')
+          .append(stack[i].getMethodName());
+    }
+    return builder.toString();
+  }
+
+  /** Total time the sampled threads spent in the state. */
+  public long getStateTime(Thread.State state, TimeUnit unit) {
+    return unit.convert(stateNanos.get(state).sum(), TimeUnit.NANOSECONDS);
+  }
+
+  public long getSampleCount() {
+    return samples.sum();
+  }
+
+  /** Current sampling interval, longer than the configured one when the overhead requires it. */
+  public long getInterval(TimeUnit unit) {
+    return unit.convert(currentIntervalNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Fraction of the wall clock time since the start (or reset) spent sampling :- the safepoint
+   * pauses, plus the CPU time of the sampler where the JVM supports it.
+   */
+  public double getOverhead() {
+    long elapsed = System.nanoTime() - startedAt;
+    return elapsed <= 0 ? 0 : (double) samplingNanos.sum() / elapsed;
+  }
+
+  /** The locks the threads waited on, the longest total wait first. */
+  public List<LockContention> getLockContention() {
+    List<LockContention> contention = new ArrayList<>(locks.values());
+    contention.sort(Comparator.comparingLong(LockContention::getTotalNanos).reversed());
+    return contention;
+  }
+
+  /**
+   * Writes the collapsed stacks, one "STATE;frame;...;frame milliseconds" line per stack, for
+   * flamegraph.pl or speedscope. Stacks with less than a millisecond are left out.
+   */
+  public void writeCollapsed(Appendable out) throws IOException {
+    for (Map.Entry<String, LongAdder> entry : stackNanos.entrySet()) {
+      long millis = TimeUnit.NANOSECONDS.toMillis(entry.getValue().sum());
+      if (millis > 0) {
+        out.append(entry.getKey()).append(' ').append(Long.toString(millis)).append('\n');
+      }
+    }
+  }
+
+  /** Time per state, the overhead and the most contended locks. */
+  public String summary(int topLocks) {
+    StringBuilder builder = new StringBuilder();
+    for (Thread.State state : Thread.State.values()) {
+      long millis = getStateTime(state, TimeUnit.MILLISECONDS);
+      if (millis > 0) {
+        builder.append(state).append(" : ").append(millis).append(" ms\n");
+      }
+    }
+    builder.append(
+        String.format(
+            "samples=%d interval=%d ms overhead=%.3f%%%n",
+            getSampleCount(), getInterval(TimeUnit.MILLISECONDS), getOverhead() * 100));
+    List<LockContention> contention = getLockContention();
+    for (int i = 0; i < Math.min(topLocks, contention.size()); i++) {
+      builder.append(contention.get(i)).append('\n');
+    }
+    return builder.toString();
+  }
+
+  /** Time the sampled threads spent blocked on or waiting for one monitor or synchronizer. */
+  public static final class LockContention {
+    private final String lockName;
+    private final LongAdder blockedNanos = new LongAdder();
+    private final LongAdder waitingNanos = new LongAdder();
+    private volatile String lastOwner;
+
+    LockContention(String lockName) {
+      this.lockName = lockName;
+    }
+
+    void add(Thread.State state, long nanos, String owner) {
+      if (state == Thread.State.BLOCKED) {
+        blockedNanos.add(nanos);
+      } else {
+        waitingNanos.add(nanos);
+      }
+      if (owner != null) {
+        lastOwner = owner;
+      }
+    }
+
+    /** Class name and identity hash code of the lock, e.g. java.lang.Object@1b6d3586 */
+    public String getLockName() {
+      return lockName;
+    }
+
+    /** Time spent BLOCKED entering the monitor. */
+    public long getBlockedNanos() {
+      return blockedNanos.sum();
+    }
+
+    /** Time spent WAITING or TIMED_WAITING on it (wait(), a Condition, LockSupport.park). */
+    public long getWaitingNanos() {
+      return waitingNanos.sum();
+    }
+
+    public long getTotalNanos() {
+      return getBlockedNanos() + getWaitingNanos();
+    }
+
+    /** Name of the last thread seen owning the lock, or null. */
+    public String getLastOwner() {
+      return lastOwner;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%s blocked=%d ms waiting=%d ms owner=%s",
+          lockName,
+          TimeUnit.NANOSECONDS.toMillis(getBlockedNanos()),
+          TimeUnit.NANOSECONDS.toMillis(getWaitingNanos()),
+          lastOwner);
+    }
+  }
+}
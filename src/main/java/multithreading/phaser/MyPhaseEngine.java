@@ -0,0 +1,130 @@
+package multithreading.phaser;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A batch job of 3 short phases over an array :- load (fill it), compute (square every element) and
+ * merge (sum up the partitions), run 500 times.
+ *
+ * <p>First with new threads for every phase which are started and join()ed one after the other,
+ * then with a {@link PhaseEngine} whose workers are created once and only wait on a Phaser between
+ * the phases. Then the engine grows and shrinks between jobs.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 18 : 05 : 13)
+ */
+public class MyPhaseEngine {
+  private static final int SIZE = 40_000;
+  private static final int JOBS = 500;
+  private static final int WORKERS = 4;
+
+  private static final long[] data = new long[SIZE];
+  private static final long[] partialSums = new long[64];
+
+  public static void main(String[] args) throws InterruptedException, ExecutionException {
+    System.out.println("****New threads for every phase****\n");
+    long start = System.nanoTime();
+    long checksum = 0;
+    for (int job = 0; job < JOBS; job++) {
+      runWithThreads(MyPhaseEngine::load);
+      runWithThreads(MyPhaseEngine::compute);
+      runWithThreads(MyPhaseEngine::merge);
+      checksum += sum(WORKERS);
+    }
+    print(start, checksum);
+
+    System.out.println("\n****PhaseEngine****\n");
+    PhaseEngine.Phase[] phases = {
+      new PhaseEngine.Phase("load", MyPhaseEngine::load),
+      new PhaseEngine.Phase("compute", MyPhaseEngine::compute),
+      new PhaseEngine.Phase("merge", MyPhaseEngine::merge)
+    };
+    try (PhaseEngine engine = new PhaseEngine(WORKERS)) {
+      start = System.nanoTime();
+      checksum = 0;
+      for (int job = 0; job < JOBS; job++) {
+        engine.run(phases);
+        checksum += sum(WORKERS);
+      }
+      print(start, checksum);
+
+      System.out.println("\n****Per phase timing****\n");
+      engine.run(phases).forEach(System.out::println);
+
+      System.out.println("\n****Adding 4 workers, then removing 6****\n");
+      engine.addWorkers(4);
+      engine.run(phases).forEach(System.out::println);
+      checksum = sum(engine.getWorkerCount());
+      engine.removeWorkers(6);
+      engine.run(phases).forEach(System.out::println);
+      System.out.println(
+          "Same sum with 8 and 2 workers : " + (checksum == sum(engine.getWorkerCount())));
+    }
+  }
+
+  private static void runWithThreads(PhaseEngine.PhaseTask task) throws InterruptedException {
+    Thread[] threads = new Thread[WORKERS];
+    for (int worker = 0; worker < WORKERS; worker++) {
+      int index = worker;
+      threads[worker] =
+          new Thread(
+              () -> {
+                try {
+                  task.run(index, WORKERS);
+                } catch (Exception e) {
+                  e.printStackTrace();
+                }
+              });
+      threads[worker].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+
+  private static void load(int worker, int workers) {
+    for (int i = from(worker, workers); i < from(worker + 1, workers); i++) {
+      data[i] = i;
+    }
+  }
+
+  private static void compute(int worker, int workers) {
+    for (int i = from(worker, workers); i < from(worker + 1, workers); i++) {
+      data[i] = data[i] * data[i];
+    }
+  }
+
+  private static void merge(int worker, int workers) {
+    long sum = 0;
+    for (int i = from(worker, workers); i < from(worker + 1, workers); i++) {
+      sum += data[i];
+    }
+    partialSums[worker] = sum;
+  }
+
+  private static int from(int worker, int workers) {
+    return (int) ((long) SIZE * worker / workers);
+  }
+
+  private static long sum(int workers) {
+    long sum = 0;
+    for (int worker = 0; worker < workers; worker++) {
+      sum += partialSums[worker];
+    }
+    return sum;
+  }
+
+  private static void print(long start, long checksum) {
+    long elapsed = System.nanoTime() - start;
+    System.out.println(
+        JOBS
+            + " jobs in "
+            + TimeUnit.NANOSECONDS.toMillis(elapsed)
+            + " ms, "
+            + elapsed / JOBS / 1000
+            + " us per job (checksum "
+            + checksum
+            + ")");
+  }
+}
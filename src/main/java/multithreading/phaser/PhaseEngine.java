@@ -0,0 +1,357 @@
+package multithreading.phaser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs jobs made of phases (e.g. load -> compute -> merge) on a fixed set of worker threads, every
+ * worker runs its share of a phase and no worker starts the next phase before all of them have
+ * finished the current one.
+ *
+ * <p>Creating threads for every phase and join()ing them one after the other costs more than a
+ * short phase itself. Here the workers are created once and wait on a <b>Phaser</b> between the
+ * phases and between the jobs :- a phase ends when the last worker arrives, which wakes up all the
+ * others at once.
+ *
+ * <p><b>Tree of Phasers</b> :- with many workers all arriving at the same Phaser, they contend on
+ * its single state word. So the workers are split into groups of at most fanOut, each group has its
+ * own child Phaser and only the last worker of a group arrives at the root Phaser.
+ *
+ * <p><b>Dynamic registration</b> :- addWorkers() and removeWorkers() change the number of workers
+ * between jobs (a Phaser, unlike a CyclicBarrier, allows parties to register and deregister).
+ *
+ * <p><b>Per phase timing</b> :- the root Phaser records the time of every advance in onAdvance(),
+ * so the time of a phase is exactly from its start to the arrival of its last worker, and the
+ * slowest and the average worker time show how well the work was balanced.
+ *
+ * @author VIVEK KUMAR SINGH
+ * @since (2026 - 10 - 19 18 : 05 : 13)
+ */
+public class PhaseEngine implements AutoCloseable {
+  public static final int DEFAULT_FAN_OUT = 16;
+
+  private static final AtomicInteger ENGINES = new AtomicInteger();
+
+  private final int fanOut;
+  private final String namePrefix = "phase-engine-" + ENGINES.incrementAndGet() + "-worker-";
+
+  /** The thread running the jobs is a party of the root, the child Phasers are the others. */
+  private final Phaser root =
+      new Phaser(1) {
+        @Override
+        protected boolean onAdvance(int phase, int registeredParties) {
+          Job job = currentJob;
+          if (job != null) {
+            job.advanced(phase);
+          }
+          return false;
+        }
+      };
+
+  private final List<Phaser> groups = new ArrayList<>();
+  private final List<Worker> workers = new ArrayList<>();
+  private final List<Worker> retired = new ArrayList<>();
+  private volatile Job currentJob;
+  private int workerSequence;
+  private boolean closed;
+
+  public PhaseEngine(int workers) {
+    this(workers, DEFAULT_FAN_OUT);
+  }
+
+  public PhaseEngine(int workers, int fanOut) {
+    if (workers <= 0 || fanOut <= 1) {
+      throw new IllegalArgumentException("workers must be positive and fanOut more than 1");
+    }
+    this.fanOut = fanOut;
+    addWorkers(workers);
+  }
+
+  /** Starts new workers, they take part from the next job on. */
+  public synchronized void addWorkers(int count) {
+    ensureOpen();
+    for (int remaining = count; remaining > 0; remaining -= fanOut) {
+      int size = Math.min(remaining, fanOut);
+      Phaser group = emptyGroup();
+      // registered before the threads start, so the next job waits for them
+      group.bulkRegister(size);
+      for (int i = 0; i < size; i++) {
+        Worker worker = new Worker(group, namePrefix + ++workerSequence);
+        workers.add(worker);
+        worker.start();
+      }
+    }
+  }
+
+  /** Retires the most recently added workers, they stop when the next job starts. */
+  public synchronized void removeWorkers(int count) {
+    ensureOpen();
+    if (count >= workers.size()) {
+      throw new IllegalArgumentException("At least one worker has to stay");
+    }
+    for (int i = 0; i < count; i++) {
+      Worker worker = workers.remove(workers.size() - 1);
+      worker.retired = true;
+      retired.add(worker);
+    }
+  }
+
+  public synchronized int getWorkerCount() {
+    return workers.size();
+  }
+
+  /**
+   * Runs the phases one after the other, each on all the workers, and returns the timing of each.
+   * When a worker fails, the remaining phases are skipped.
+   *
+   * @throws ExecutionException with the first failure of a worker
+   */
+  public synchronized List<PhaseTiming> run(Phase... phases) throws ExecutionException {
+    ensureOpen();
+    for (int i = 0; i < workers.size(); i++) {
+      workers.get(i).index = i;
+    }
+    Job job = new Job(phases, workers.size(), root.getPhase());
+    currentJob = job;
+
+    // the start of the job, then the end of every phase
+    root.arriveAndAwaitAdvance();
+    for (int i = 0; i < phases.length; i++) {
+      root.arriveAndAwaitAdvance();
+    }
+    currentJob = null;
+    retired.removeIf(worker -> !worker.isAlive());
+
+    Throwable failure = job.failure.get();
+    if (failure != null) {
+      throw new ExecutionException(failure);
+    }
+    return job.timings();
+  }
+
+  /** Stops all the workers and waits for them. */
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    root.forceTermination();
+    List<Worker> all = new ArrayList<>(workers);
+    all.addAll(retired);
+    boolean interrupted = false;
+    for (Worker worker : all) {
+      while (worker.isAlive()) {
+        try {
+          worker.join();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Between jobs the workers of a group have all arrived (at the start of the next job), then a
+   * Phaser doesn't accept a new party before it advances. So new workers only go to a new group or
+   * to one emptied by retired workers, which registers at the root again.
+   */
+  private Phaser emptyGroup() {
+    for (Phaser group : groups) {
+      if (group.getRegisteredParties() == 0) {
+        return group;
+      }
+    }
+    Phaser group = new Phaser(root);
+    groups.add(group);
+    return group;
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("PhaseEngine is closed");
+    }
+  }
+
+  /** Work of one phase, called once on each worker. */
+  @FunctionalInterface
+  public interface PhaseTask {
+    /**
+     * @param worker index of this worker, from 0 to workers - 1
+     * @param workers number of workers running the phase, to split the work
+     */
+    void run(int worker, int workers) throws Exception;
+  }
+
+  public static final class Phase {
+    private final String name;
+    private final PhaseTask task;
+
+    public Phase(String name, PhaseTask task) {
+      this.name = name;
+      this.task = task;
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
+
+  /** Time of one phase of a job, in nanoseconds. */
+  public static final class PhaseTiming {
+    private final String name;
+    private final int workers;
+    private final long elapsedNanos;
+    private final long slowestWorkerNanos;
+    private final long averageWorkerNanos;
+
+    PhaseTiming(
+        String name,
+        int workers,
+        long elapsedNanos,
+        long slowestWorkerNanos,
+        long averageWorkerNanos) {
+      this.name = name;
+      this.workers = workers;
+      this.elapsedNanos = elapsedNanos;
+      this.slowestWorkerNanos = slowestWorkerNanos;
+      this.averageWorkerNanos = averageWorkerNanos;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public int getWorkers() {
+      return workers;
+    }
+
+    /** From the start of the phase to the arrival of its last worker. */
+    public long getElapsedNanos() {
+      return elapsedNanos;
+    }
+
+    public long getSlowestWorkerNanos() {
+      return slowestWorkerNanos;
+    }
+
+    public long getAverageWorkerNanos() {
+      return averageWorkerNanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%s : %.3f ms on %d workers (slowest %.3f ms, average %.3f ms)",
+          name, elapsedNanos / 1e6, workers, slowestWorkerNanos / 1e6, averageWorkerNanos / 1e6);
+    }
+  }
+
+  /** One run() call :- its phases and what the workers and the root Phaser measured. */
+  private static final class Job {
+    final Phase[] phases;
+    final int workers;
+    final int startPhase;
+
+    /** Index 0 is the start of the job, index i + 1 the end of phase i. */
+    final long[] advancedAt;
+
+    final LongAdder[] workerNanos;
+    final LongAccumulator[] slowestWorkerNanos;
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    Job(Phase[] phases, int workers, int startPhase) {
+      this.phases = phases;
+      this.workers = workers;
+      this.startPhase = startPhase;
+      this.advancedAt = new long[phases.length + 1];
+      this.workerNanos = new LongAdder[phases.length];
+      this.slowestWorkerNanos = new LongAccumulator[phases.length];
+      for (int i = 0; i < phases.length; i++) {
+        workerNanos[i] = new LongAdder();
+        slowestWorkerNanos[i] = new LongAccumulator(Math::max, 0);
+      }
+    }
+
+    /** Called by onAdvance(), the Phaser makes it visible to the thread which reads it later. */
+    void advanced(int phase) {
+      int index = phase - startPhase;
+      if (index >= 0 && index < advancedAt.length) {
+        advancedAt[index] = System.nanoTime();
+      }
+    }
+
+    void runPhase(int phase, int worker) {
+      if (failure.get() != null) {
+        return;
+      }
+      long start = System.nanoTime();
+      try {
+        phases[phase].task.run(worker, workers);
+      } catch (Throwable throwable) {
+        failure.compareAndSet(null, throwable);
+      }
+      long elapsed = System.nanoTime() - start;
+      workerNanos[phase].add(elapsed);
+      slowestWorkerNanos[phase].accumulate(elapsed);
+    }
+
+    List<PhaseTiming> timings() {
+      PhaseTiming[] timings = new PhaseTiming[phases.length];
+      for (int i = 0; i < phases.length; i++) {
+        timings[i] =
+            new PhaseTiming(
+                phases[i].name,
+                workers,
+                advancedAt[i + 1] - advancedAt[i],
+                slowestWorkerNanos[i].get(),
+                workerNanos[i].sum() / workers);
+      }
+      return Collections.unmodifiableList(Arrays.asList(timings));
+    }
+  }
+
+  private final class Worker extends Thread {
+    private final Phaser group;
+    private volatile int index;
+    private volatile boolean retired;
+
+    Worker(Phaser group, String name) {
+      super(name);
+      this.group = group;
+      setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+      while (true) {
+        // waits for the start of the next job, a negative phase means the engine is closed
+        if (group.arriveAndAwaitAdvance() < 0) {
+          return;
+        }
+        if (retired) {
+          group.arriveAndDeregister();
+          return;
+        }
+        Job job = currentJob;
+        for (int phase = 0; phase < job.phases.length; phase++) {
+          job.runPhase(phase, index);
+          if (group.arriveAndAwaitAdvance() < 0) {
+            return;
+          }
+        }
+      }
+    }
+  }
+}